@@ -27,16 +27,45 @@
  */
 package com.github.jonathanxd.iutils.localization.json;
 
+import com.github.jonathanxd.iutils.exception.LocalizationMapParseException;
+import com.github.jonathanxd.iutils.localization.Locale;
 import com.github.jonathanxd.iutils.localization.LocaleLoader;
+import com.github.jonathanxd.iutils.localization.LocalizationManager;
 import com.github.jonathanxd.iutils.text.TextComponent;
 import com.github.jonathanxd.iutils.text.TextUtil;
 
+import org.jetbrains.annotations.NotNull;
 import org.json.simple.JSONObject;
+import org.json.simple.parser.ContentHandler;
 import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
+/**
+ * Loader of json localizations.
+ *
+ * Nested objects are flattened into dotted keys and arrays are mapped to multiple localizations of
+ * the same key. Json input is parsed as a token stream, without building the json tree, see {@link
+ * #load(Locale, Reader)}. A key repeated in a json object replaces the previous value of the key,
+ * as in {@link #create(JSONObject)}.
+ *
+ * Invalid localizations ({@code null}, empty arrays and empty objects) are rejected with {@link
+ * IllegalArgumentException}, as in {@link TextUtil#parseMap(Map)}. Json which is not an object is
+ * rejected with {@link LocalizationMapParseException}.
+ */
 public final class JsonLocaleLoader implements LocaleLoader {
 
     public static final JsonLocaleLoader JSON_LOCALE_LOADER = new JsonLocaleLoader();
@@ -46,7 +75,30 @@ public final class JsonLocaleLoader implements LocaleLoader {
 
     @Override
     public Map<String, List<TextComponent>> create(String json) throws Exception {
-        return this.create((JSONObject) new JSONParser().parse(json));
+        return this.create(new StringReader(json));
+    }
+
+    @Override
+    public Map<String, List<TextComponent>> create(BufferedReader reader) throws Exception {
+        return this.create((Reader) reader);
+    }
+
+    /**
+     * Creates localization map from json read from {@code reader}.
+     *
+     * @param reader Reader of json localizations.
+     * @return Localization map.
+     * @throws IOException    If {@code reader} fails to read.
+     * @throws ParseException If json is invalid.
+     * @throws IllegalArgumentException      If a localization is invalid.
+     * @throws LocalizationMapParseException If json is not an object.
+     */
+    public Map<String, List<TextComponent>> create(@NotNull Reader reader) throws IOException, ParseException {
+        Map<String, List<TextComponent>> components = new HashMap<>();
+
+        this.parse(reader, (key, component) -> components.computeIfAbsent(key, f -> new ArrayList<>()).add(component));
+
+        return components;
     }
 
     @Override
@@ -54,10 +106,197 @@ public final class JsonLocaleLoader implements LocaleLoader {
         return "json";
     }
 
+    @Override
+    public void load(@NotNull Locale locale, @NotNull BufferedReader reader) throws Exception {
+        this.load(locale, (Reader) reader);
+    }
+
+    /**
+     * Loads {@code locale} localizations from json read from {@code reader}, registering them once
+     * the whole json was read, so nothing is registered if json is invalid.
+     *
+     * @param locale Locale to load localizations.
+     * @param reader Reader of json localizations.
+     * @throws IOException    If {@code reader} fails to read.
+     * @throws ParseException If json is invalid.
+     * @throws IllegalArgumentException      If a localization is invalid.
+     * @throws LocalizationMapParseException If json is not an object.
+     */
+    public void load(@NotNull Locale locale, @NotNull Reader reader) throws IOException, ParseException {
+        LocalizationManager localizationManager = locale.getLocalizationManager();
+
+        this.parse(reader, localizationManager::registerLocalization);
+    }
+
+    /**
+     * Loads {@code locale} localizations from {@code UTF-8} json read from {@code inputStream}, see
+     * {@link #load(Locale, Reader)}.
+     *
+     * @param locale      Locale to load localizations.
+     * @param inputStream Input stream of json localizations.
+     * @throws IOException    If {@code inputStream} fails to read.
+     * @throws ParseException If json is invalid.
+     * @throws IllegalArgumentException      If a localization is invalid.
+     * @throws LocalizationMapParseException If json is not an object.
+     */
+    public void load(@NotNull Locale locale, @NotNull InputStream inputStream) throws IOException, ParseException {
+        this.load(locale, (Reader) new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Parses json localizations from {@code reader}, calling {@code consumer} with the dotted key
+     * and parsed component of each localization, in the order they appear, once the whole json was
+     * read. Localizations replaced by a repeated json key are not passed to {@code consumer}.
+     *
+     * @param reader   Reader of json localizations.
+     * @param consumer Consumer of localizations.
+     * @throws IOException    If {@code reader} fails to read.
+     * @throws ParseException If json is invalid.
+     * @throws IllegalArgumentException      If a localization is invalid.
+     * @throws LocalizationMapParseException If json is not an object.
+     */
+    public void parse(@NotNull Reader reader,
+                      @NotNull BiConsumer<String, TextComponent> consumer) throws IOException, ParseException {
+        new JSONParser().parse(reader, new LocalizationHandler(consumer));
+    }
+
     @SuppressWarnings("unchecked")
     public Map<String, List<TextComponent>> create(JSONObject jsonObject) {
         Map<Object, Object> map = (Map<Object, Object>) jsonObject;
 
         return TextUtil.parseMap(map);
     }
+
+    /**
+     * Builds dotted keys while walking json tokens and collects each primitive value as a
+     * localization, emitting them at the end of json.
+     */
+    private static final class LocalizationHandler implements ContentHandler {
+        private final BiConsumer<String, TextComponent> consumer;
+        private final StringBuilder key = new StringBuilder();
+        // Collected localizations, the key of localizations replaced by a repeated json key is null
+        private final List<String> keys = new ArrayList<>();
+        private final List<TextComponent> components = new ArrayList<>();
+        // Range of collected localizations of each entry of each open object, by json key
+        private final List<Map<String, int[]>> objects = new ArrayList<>();
+        // Length of key before each entry
+        private int[] keyLengths = new int[8];
+        // Range of collected localizations of each open entry
+        private int[][] entryRanges = new int[8][];
+        private int entries = 0;
+        // Amount of values in each open container, the root object is not tracked
+        private int[] values = new int[8];
+        private int depth = 0;
+
+        LocalizationHandler(BiConsumer<String, TextComponent> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startJSON() {
+        }
+
+        @Override
+        public void endJSON() {
+            for (int i = 0; i < this.keys.size(); i++) {
+                String key = this.keys.get(i);
+
+                if (key != null)
+                    this.consumer.accept(key, this.components.get(i));
+            }
+        }
+
+        @Override
+        public boolean startObject() {
+            this.startContainer(true);
+            this.objects.add(new HashMap<>());
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            this.objects.remove(this.objects.size() - 1);
+            this.endContainer();
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            if (this.entries == this.keyLengths.length) {
+                this.keyLengths = Arrays.copyOf(this.keyLengths, this.entries << 1);
+                this.entryRanges = Arrays.copyOf(this.entryRanges, this.entries << 1);
+            }
+
+            int[] range = {this.keys.size(), this.keys.size()};
+            int[] replaced = this.objects.get(this.objects.size() - 1).put(key, range);
+
+            if (replaced != null) {
+                for (int i = replaced[0]; i < replaced[1]; i++) {
+                    this.keys.set(i, null);
+                }
+            }
+
+            this.entryRanges[this.entries] = range;
+            this.keyLengths[this.entries++] = this.key.length();
+
+            if (this.key.length() != 0)
+                this.key.append('.');
+
+            this.key.append(key);
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            this.entryRanges[--this.entries][1] = this.keys.size();
+            this.key.setLength(this.keyLengths[this.entries]);
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            this.startContainer(false);
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            this.endContainer();
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            if (this.depth == 0)
+                throw new LocalizationMapParseException("Expected localization object, but found: " + value + ".");
+
+            if (value == null)
+                throw new IllegalArgumentException("Invalid null localization of key '" + this.key + "'.");
+
+            this.values[this.depth - 1]++;
+            this.keys.add(this.key.toString());
+            this.components.add(TextUtil.parse(String.valueOf(value)));
+            return true;
+        }
+
+        private void startContainer(boolean object) {
+            if (this.depth == 0 && !object)
+                throw new LocalizationMapParseException("Expected localization object, but found array.");
+
+            if (this.depth > 0)
+                this.values[this.depth - 1]++;
+
+            if (this.depth == this.values.length)
+                this.values = Arrays.copyOf(this.values, this.depth << 1);
+
+            this.values[this.depth++] = 0;
+        }
+
+        private void endContainer() {
+            --this.depth;
+
+            if (this.depth > 0 && this.values[this.depth] == 0)
+                throw new IllegalArgumentException("Invalid empty localization of key '" + this.key + "'.");
+        }
+    }
 }
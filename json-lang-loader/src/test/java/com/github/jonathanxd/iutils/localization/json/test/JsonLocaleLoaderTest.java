@@ -28,24 +28,30 @@
 package com.github.jonathanxd.iutils.localization.json.test;
 
 import com.github.jonathanxd.iutils.collection.Collections3;
+import com.github.jonathanxd.iutils.exception.LocalizationMapParseException;
 import com.github.jonathanxd.iutils.localization.Locale;
 import com.github.jonathanxd.iutils.localization.Locales;
 import com.github.jonathanxd.iutils.localization.LocalizationManager;
+import com.github.jonathanxd.iutils.localization.MapLocalizationManager;
 import com.github.jonathanxd.iutils.localization.json.JsonLocaleLoader;
 import com.github.jonathanxd.iutils.text.Text;
 
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
 import org.junit.Assert;
-import org.junit.Before;
+import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.io.InputStream;
+import java.io.StringReader;
 import java.nio.file.Paths;
 
 public class JsonLocaleLoaderTest {
 
-    Locale locale = Locales.create("en_us");
+    static Locale locale = Locales.create("en_us");
 
-    @Before
-    public void loadLocale() {
+    @BeforeClass
+    public static void loadLocale() {
         JsonLocaleLoader.JSON_LOCALE_LOADER
                 .loadFromResource(locale, Paths.get("."), "mylang", JsonLocaleLoader.class.getClassLoader());
     }
@@ -65,4 +71,92 @@ public class JsonLocaleLoaderTest {
         Assert.assertEquals(Text.of("Session expired."), localizationManager.getLocalization("messages.auth.expired"));
     }
 
+    @Test
+    public void streamingJsonLocaleLoader() throws Exception {
+        Locale streamLocale = new StreamLocale();
+
+        try (InputStream in = JsonLocaleLoader.class.getClassLoader().getResourceAsStream("mylang_en_us.json")) {
+            JsonLocaleLoader.JSON_LOCALE_LOADER.load(streamLocale, in);
+        }
+
+        LocalizationManager localizationManager = streamLocale.getLocalizationManager();
+
+        Assert.assertEquals(
+                Collections3.listOf(Text.of("Hello ", Text.variable("name"), "."), Text.of("Example2.")),
+                localizationManager.getLocalizations("messages.greeting"));
+        Assert.assertEquals(Text.of("Invalid credentials."), localizationManager.getLocalization("messages.auth.invalid_cred"));
+        Assert.assertEquals(Text.of("Session expired."), localizationManager.getLocalization("messages.auth.expired"));
+
+        String json = "{\"a\": {\"b\": [\"x\", {\"c\": 1}, [true]], \"d\": \"y\"}, \"e\": 2.5}";
+
+        Assert.assertEquals(
+                JsonLocaleLoader.JSON_LOCALE_LOADER.create((JSONObject) new JSONParser().parse(json)),
+                JsonLocaleLoader.JSON_LOCALE_LOADER.create(json));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyJsonLocalization() throws Exception {
+        JsonLocaleLoader.JSON_LOCALE_LOADER.create("{\"a\": []}");
+    }
+
+    @Test(expected = LocalizationMapParseException.class)
+    public void arrayJsonLocalization() throws Exception {
+        JsonLocaleLoader.JSON_LOCALE_LOADER.create("[\"a\"]");
+    }
+
+    @Test
+    public void duplicatedJsonKeys() throws Exception {
+        String[] inputs = {
+                "{\"a\": \"x\", \"a\": \"y\"}",
+                "{\"a\": {\"b\": \"x\", \"c\": \"z\"}, \"d\": 1, \"a\": {\"b\": [\"y\", \"w\"]}}",
+                "{\"a\": [{\"b\": \"x\", \"b\": \"y\"}, {\"b\": \"z\"}], \"c\": {\"d\": {\"e\": 1}, \"d\": 2}}"
+        };
+
+        for (String json : inputs) {
+            Assert.assertEquals(
+                    JsonLocaleLoader.JSON_LOCALE_LOADER.create((JSONObject) new JSONParser().parse(json)),
+                    JsonLocaleLoader.JSON_LOCALE_LOADER.create(json));
+        }
+
+        Locale duplicated = new StreamLocale();
+        JsonLocaleLoader.JSON_LOCALE_LOADER.load(duplicated, new StringReader(inputs[0]));
+
+        Assert.assertEquals(Collections3.listOf(Text.of("y")), duplicated.getLocalizationManager().getLocalizations("a"));
+    }
+
+    @Test
+    public void invalidJsonLocalizations() throws Exception {
+        String[] inputs = {"{\"a\": []}", "{\"a\": {}}", "{\"a\": null}", "{\"a\": {\"b\": [\"x\", []]}}"};
+
+        for (String json : inputs) {
+            JSONObject tree = (JSONObject) new JSONParser().parse(json);
+
+            try {
+                JsonLocaleLoader.JSON_LOCALE_LOADER.create(tree);
+                Assert.fail("Expected IllegalArgumentException from tree: " + json);
+            } catch (IllegalArgumentException ignored) {
+            }
+
+            try {
+                JsonLocaleLoader.JSON_LOCALE_LOADER.create(json);
+                Assert.fail("Expected IllegalArgumentException from stream: " + json);
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+    }
+
+    static class StreamLocale implements Locale {
+        private final LocalizationManager localizationManager = new MapLocalizationManager();
+
+        @Override
+        public String getName() {
+            return "en_us";
+        }
+
+        @Override
+        public LocalizationManager getLocalizationManager() {
+            return this.localizationManager;
+        }
+    }
+
 }
@@ -0,0 +1,122 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.collection.view;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * {@link ViewList} of a {@link RandomAccess} list which maps each element to exactly one element.
+ *
+ * {@link #get(int)}, {@link #set(int, Object)} and {@link #size()} are delegated by index to the
+ * backing list instead of iterating the synthetic iterable, as well as the spliterator of reversed
+ * views. Other operations remain the same.
+ */
+final class RandomAccessViewList<E, Y> extends ViewList<E, Y> implements RandomAccess {
+
+    private final List<E> list;
+    private final Function<E, Y> mapper;
+    private final Function<Y, E> unmapper;
+    private final boolean reverse;
+    private final boolean readOnly;
+
+    /**
+     * Constructs a random access list view.
+     *
+     * @param list     List to wrap.
+     * @param mapper   Mapper of elements, or {@code null} to not map elements.
+     * @param unmapper Remap value to original type, ignored if {@code mapper} is {@code null}.
+     * @param add      Add operation handler.
+     * @param remove   Remove operation handler.
+     * @param reverse  True to create a reversed view of list.
+     * @param readOnly True to create a read only view.
+     */
+    @SuppressWarnings("unchecked")
+    RandomAccessViewList(List<E> list,
+                         Function<E, Y> mapper,
+                         Function<Y, E> unmapper,
+                         Predicate<Y> add,
+                         Predicate<Y> remove,
+                         boolean reverse,
+                         boolean readOnly) {
+        super(list,
+                mapper == null ? null : ViewUtils.elementMapper(mapper, unmapper),
+                add,
+                remove,
+                reverse,
+                readOnly);
+
+        this.list = list;
+        this.mapper = mapper == null ? e -> (Y) e : mapper;
+        this.unmapper = mapper == null ? y -> (E) y : unmapper;
+        this.reverse = reverse;
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public int size() {
+        return this.list.size();
+    }
+
+    @Override
+    public Y get(int index) {
+        int size = this.list.size();
+
+        if (index < 0 || index >= size)
+            return null;
+
+        return this.mapper.apply(this.list.get(this.reverse ? size - 1 - index : index));
+    }
+
+    @Override
+    public Spliterator<Y> spliterator() {
+        if (this.reverse)
+            return new ViewUtils.RandomAccessSpliterator<>(this, 0, this.list.size());
+
+        return super.spliterator();
+    }
+
+    @Override
+    public Y set(int index, Y element) {
+        int size = this.list.size();
+
+        if (index < 0 || index >= size)
+            throw new NoSuchElementException();
+
+        if (this.readOnly)
+            throw new UnsupportedOperationException("Read only!");
+
+        E old = this.list.set(this.reverse ? size - 1 - index : index, this.unmapper.apply(element));
+
+        return this.mapper.apply(old);
+    }
+}
@@ -30,7 +30,9 @@ package com.github.jonathanxd.iutils.collection.view;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 
@@ -49,6 +51,7 @@ public class ViewCollection<E, Y> extends AbstractViewCollection<E, Y> {
 
     private final Predicate<Y> add;
     private final Predicate<Y> remove;
+    private final BiFunction<E, Iterator<E>, Iterator<Y>> mapper;
 
     /**
      * Synthetic iterable to emulate a iterable of element of type {@link Y}.
@@ -73,6 +76,7 @@ public class ViewCollection<E, Y> extends AbstractViewCollection<E, Y> {
 
         this.add = add;
         this.remove = remove;
+        this.mapper = mapper;
         this.syntheticIterable = ViewUtils.iterable(collection, mapper);
     }
 
@@ -87,8 +91,26 @@ public class ViewCollection<E, Y> extends AbstractViewCollection<E, Y> {
         return this.remove.test((Y) o);
     }
 
+    /**
+     * Creates a spliterator which splits the original collection and maps elements lazily in each
+     * split.
+     *
+     * The size is only reported if elements are mapped with {@link
+     * ViewUtils#elementMapper(Function)} or not mapped at all.
+     *
+     * @return Spliterator which splits the original collection.
+     */
+    @Override
+    public Spliterator<Y> spliterator() {
+        return ViewUtils.spliterator(this.getCollection().spliterator(), this.mapper, 0);
+    }
+
     @Override
     public Iterable<Y> getSyntheticIterable() {
         return this.syntheticIterable;
     }
+
+    BiFunction<E, Iterator<E>, Iterator<Y>> getMapper() {
+        return this.mapper;
+    }
 }
@@ -31,7 +31,9 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -124,11 +126,25 @@ public class ViewCollections {
     /**
      * Creates a simple read only view list backing to {@code list}.
      *
+     * If {@code list} is {@link RandomAccess}, the view is also {@link RandomAccess} and index
+     * operations are delegated to {@code list}.
+     *
      * @param list List to back operations.
      * @param <E>  Type of elements.
      * @return Simple read only view list backing to {@code list}.
      */
     public static <E> ViewList<E, E> readOnlyList(List<E> list) {
+        if (list instanceof RandomAccess)
+            return new RandomAccessViewList<>(list,
+                    null,
+                    null,
+                    o -> {
+                        throw new UnsupportedOperationException("Read only!");
+                    },
+                    o -> {
+                        throw new UnsupportedOperationException("Read only!");
+                    }, false, true);
+
         return new ViewList<>(list,
                 null,
                 o -> {
@@ -142,11 +158,23 @@ public class ViewCollections {
     /**
      * Creates a simple reversed view list backing to {@code list}.
      *
+     * If {@code list} is {@link RandomAccess}, the view is also {@link RandomAccess} and index
+     * operations are delegated to {@code list}.
+     *
      * @param list List to back operations.
      * @param <E>  Type of elements.
      * @return Simple reversed view list backing to {@code list}.
      */
     public static <E> ViewList<E, E> reversedList(List<E> list) {
+        if (list instanceof RandomAccess)
+            return new RandomAccessViewList<>(list,
+                    null,
+                    null,
+                    list::add,
+                    list::remove,
+                    true,
+                    false);
+
         return new ViewList<>(list,
                 null,
                 list::add,
@@ -195,7 +223,7 @@ public class ViewCollections {
                                                                Predicate<Y> remove) {
         return ViewCollections.collectionMappedMulti(
                 collection,
-                (e, i) -> ViewUtils.mapped(e, i, mapper),
+                ViewUtils.elementMapper(mapper),
                 add,
                 remove
         );
@@ -227,6 +255,9 @@ public class ViewCollections {
     /**
      * Creates a mapped list backing to {@code list}.
      *
+     * If {@code list} is {@link RandomAccess}, the view is also {@link RandomAccess} and index
+     * operations are delegated to {@code list}, mapping and unmapping only the accessed element.
+     *
      * @param list   Original list.
      * @param mapper Mapper of elements.
      * @param add    Element add handler.
@@ -240,7 +271,10 @@ public class ViewCollections {
                                                    Function<Y, E> unmapper,
                                                    Predicate<Y> add,
                                                    Predicate<Y> remove) {
-        return ViewCollections.listMappedMulti(list, (e, i) -> ViewUtils.mapped(e, i, mapper, unmapper), add, remove);
+        if (list instanceof RandomAccess)
+            return new RandomAccessViewList<>(list, mapper, unmapper, add, remove, false, false);
+
+        return ViewCollections.listMappedMulti(list, ViewUtils.elementMapper(mapper, unmapper), add, remove);
     }
 
     /**
@@ -282,13 +316,16 @@ public class ViewCollections {
                                                  Predicate<Y> add,
                                                  Predicate<Y> remove) {
         return ViewCollections.setMappedMulti(set,
-                (e, eIterator) -> ViewUtils.mapped(e, eIterator, mapper),
+                ViewUtils.elementMapper(mapper),
                 add,
                 remove);
     }
 
     /**
      * Utility to create flat collections.
+     *
+     * {@code size()} and positional access of flat lists use sizes of sub-collections instead of
+     * iterating their elements, so they are linear in the number of sub-collections.
      */
     public static class Flat {
 
@@ -360,20 +397,11 @@ public class ViewCollections {
             Predicate<Y> remove = o -> removeFirst(collection, o);
 
             if (type == Type.COLLECTION) {
-                value = (E) ViewCollections.collectionMappedMulti(collection,
-                        (e, eIterator) -> e.iterator(),
-                        add,
-                        remove);
+                value = (E) new FlatCollection<>(collection, add, remove);
             } else if (type == Type.SET) {
-                value = (E) ViewCollections.setMappedMulti((Set<E>) collection,
-                        (e, eIterator) -> e.iterator(),
-                        add,
-                        remove);
+                value = (E) new FlatSet<>((Set<Set<Y>>) collection, add, remove);
             } else if (type == Type.LIST) {
-                value = (E) ViewCollections.listMappedMulti((List<List<Y>>) collection,
-                        (e, eIterator) -> e.listIterator(),
-                        add,
-                        remove);
+                value = (E) new FlatList<>((List<List<Y>>) collection, add, remove);
             }
 
             return Objects.requireNonNull(value, "Cannot create flat collection of type: '" + type + "'!");
@@ -439,5 +467,103 @@ public class ViewCollections {
             SET,
             LIST
         }
+
+        /**
+         * Gets the total size of sub-collections of {@code collection}, calling {@link
+         * Collection#size()} of each sub-collection, so the cost is linear in the number of
+         * sub-collections instead of the number of elements.
+         */
+        private static int size(Collection<? extends Collection<?>> collection) {
+            long size = 0;
+
+            for (Collection<?> segment : collection) {
+                size += segment.size();
+            }
+
+            return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
+        }
+
+        /**
+         * Flat collection which computes the size from sizes of sub-collections, without iterating
+         * elements.
+         */
+        private static final class FlatCollection<C extends Collection<Y>, Y> extends ViewCollection<C, Y> {
+
+            FlatCollection(Collection<C> collection, Predicate<Y> add, Predicate<Y> remove) {
+                super(collection, (e, eIterator) -> e.iterator(), add, remove);
+            }
+
+            @Override
+            public int size() {
+                return Flat.size(this.getCollection());
+            }
+        }
+
+        /**
+         * Flat set which computes the size from sizes of sub-sets, without iterating elements.
+         */
+        private static final class FlatSet<C extends Set<Y>, Y> extends ViewSet<C, Y> {
+
+            FlatSet(Set<C> set, Predicate<Y> add, Predicate<Y> remove) {
+                super(set, (e, eIterator) -> e.iterator(), add, remove);
+            }
+
+            @Override
+            public int size() {
+                return Flat.size(this.getCollection());
+            }
+        }
+
+        /**
+         * Flat list which computes the size from sizes of sub-lists and finds the sub-list of an
+         * element by skipping whole sub-lists, without iterating elements. Both are linear in the
+         * number of sub-lists.
+         *
+         * No state is cached, sub-lists may be changed without using the flat view and concurrent
+         * reads of the view do not write anything.
+         */
+        private static final class FlatList<C extends List<Y>, Y> extends ViewList<C, Y> {
+
+            FlatList(List<C> list, Predicate<Y> add, Predicate<Y> remove) {
+                super(list, (e, eIterator) -> e.listIterator(), add, remove);
+            }
+
+            @Override
+            public int size() {
+                return Flat.size(this.getCollection());
+            }
+
+            @Override
+            public Y get(int index) {
+                if (index >= 0) {
+                    for (C segment : this.getCollection()) {
+                        int size = segment.size();
+
+                        if (index < size)
+                            return segment.get(index);
+
+                        index -= size;
+                    }
+                }
+
+                return null;
+            }
+
+            @Override
+            public Y set(int index, Y element) {
+                if (index >= 0) {
+                    for (C segment : this.getCollection()) {
+                        int size = segment.size();
+
+                        if (index < size)
+                            return segment.set(index, element);
+
+                        index -= size;
+                    }
+                }
+
+                throw new NoSuchElementException();
+            }
+        }
     }
 }
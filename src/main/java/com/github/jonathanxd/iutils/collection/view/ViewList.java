@@ -35,14 +35,19 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 public class ViewList<E, Y> extends AbstractViewCollection<E, Y> implements List<Y> {
 
     private final Predicate<Y> add;
     private final Predicate<Y> remove;
+    private final BiFunction<E, ListIterator<E>, ListIterator<Y>> mapper;
+    private final boolean reverse;
 
     /**
      * Synthetic list iterable to emulate a iterable of element of type {@link Y}.
@@ -86,6 +91,8 @@ public class ViewList<E, Y> extends AbstractViewCollection<E, Y> implements List
 
         this.add = add;
         this.remove = remove;
+        this.mapper = mapper;
+        this.reverse = reverse;
 
         ViewUtils.ListIterable<Y> iterable;
 
@@ -209,6 +216,26 @@ public class ViewList<E, Y> extends AbstractViewCollection<E, Y> implements List
         return this.remove.test((Y) o);
     }
 
+    /**
+     * Creates a spliterator which splits the original list and maps elements lazily in each split.
+     *
+     * The size is only reported if elements are mapped with {@link
+     * ViewUtils#elementMapper(Function, Function)} or not mapped at all. Reversed views of lists
+     * which are not {@link java.util.RandomAccess} are not split efficiently.
+     *
+     * @return Spliterator which splits the original list.
+     */
+    @Override
+    public Spliterator<Y> spliterator() {
+        if (!this.reverse)
+            return ViewUtils.listSpliterator(((List<E>) this.getCollection()).spliterator(), this.mapper);
+
+        if (this.mapper == null)
+            return Spliterators.spliterator(this.iterator(), this.getCollection().size(), Spliterator.ORDERED);
+
+        return Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.ORDERED);
+    }
+
     @Override
     public ViewUtils.ListIterable<Y> getSyntheticIterable() {
         return this.syntheticIterable;
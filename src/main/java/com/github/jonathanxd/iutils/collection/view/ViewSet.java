@@ -29,6 +29,7 @@ package com.github.jonathanxd.iutils.collection.view;
 
 import java.util.Iterator;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
@@ -47,4 +48,9 @@ public class ViewSet<E, Y> extends ViewCollection<E, Y> implements Set<Y> {
         super(set, mapper, add, remove);
     }
 
+    @Override
+    public Spliterator<Y> spliterator() {
+        return ViewUtils.spliterator(this.getCollection().spliterator(), this.getMapper(), Spliterator.DISTINCT);
+    }
+
 }
@@ -27,11 +27,15 @@
  */
 package com.github.jonathanxd.iutils.collection.view;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
@@ -320,6 +324,92 @@ public class ViewUtils {
         return new ViewMappedListIterator<>(original, mapper, value, unmapper);
     }
 
+    /**
+     * Creates a mapper function which maps each element to exactly one element using {@link
+     * #mapped(Object, Iterator, Function)}.
+     *
+     * Spliterators of views created with this mapper apply {@code mapper} directly and report the
+     * exact size of the original collection.
+     *
+     * @param mapper Value mapper.
+     * @param <E>    Input type.
+     * @param <Y>    Output type.
+     * @return Mapper function which maps each element to exactly one element.
+     */
+    public static <E, Y> BiFunction<E, Iterator<E>, Iterator<Y>> elementMapper(Function<E, Y> mapper) {
+        return new ElementMapper<>(mapper);
+    }
+
+    /**
+     * Creates a mapper function which maps each element to exactly one element using {@link
+     * #mapped(Object, ListIterator, Function, Function)}.
+     *
+     * Spliterators of views created with this mapper apply {@code mapper} directly and report the
+     * exact size of the original list.
+     *
+     * @param mapper   Value mapper.
+     * @param unmapper Remap value to original type.
+     * @param <E>      Input type.
+     * @param <Y>      Output type.
+     * @return Mapper function which maps each element to exactly one element.
+     */
+    public static <E, Y> BiFunction<E, ListIterator<E>, ListIterator<Y>> elementMapper(Function<E, Y> mapper, Function<Y, E> unmapper) {
+        return new ListElementMapper<>(mapper, unmapper);
+    }
+
+    /**
+     * Creates a spliterator which splits {@code source} and maps elements lazily in each split.
+     *
+     * If {@code mapper} is an {@link #elementMapper(Function) element mapper}, the spliterator has
+     * the same size of {@code source}, otherwise mapper is called with an empty read only
+     * iterator.
+     *
+     * @param source          Spliterator of original elements.
+     * @param mapper          Mapper function, or {@code null} to not map elements.
+     * @param characteristics Characteristics to add to the spliterator.
+     * @param <E>             Element type.
+     * @param <Y>             Mapped type.
+     * @return Spliterator which maps elements of {@code source}.
+     */
+    @SuppressWarnings("unchecked")
+    static <E, Y> Spliterator<Y> spliterator(Spliterator<E> source,
+                                             BiFunction<E, Iterator<E>, Iterator<Y>> mapper,
+                                             int characteristics) {
+        if (mapper == null) {
+            if ((source.characteristics() & characteristics) == characteristics)
+                return (Spliterator<Y>) source;
+
+            return new MappedSpliterator<>(source, e -> (Y) e, characteristics, true);
+        }
+
+        if (mapper instanceof ElementMapper)
+            return new MappedSpliterator<>(source, ((ElementMapper<E, Y>) mapper).mapper, characteristics, false);
+
+        return new FlatMappedSpliterator<>(source, e -> mapper.apply(e, Collections.emptyIterator()), characteristics);
+    }
+
+    /**
+     * Creates a spliterator which splits {@code source} and maps elements lazily in each split.
+     *
+     * @param source Spliterator of original elements.
+     * @param mapper Mapper function, or {@code null} to not map elements.
+     * @param <E>    Element type.
+     * @param <Y>    Mapped type.
+     * @return Spliterator which maps elements of {@code source}.
+     * @see #spliterator(Spliterator, BiFunction, int)
+     */
+    @SuppressWarnings("unchecked")
+    static <E, Y> Spliterator<Y> listSpliterator(Spliterator<E> source,
+                                                 BiFunction<E, ListIterator<E>, ListIterator<Y>> mapper) {
+        if (mapper == null)
+            return (Spliterator<Y>) source;
+
+        if (mapper instanceof ListElementMapper)
+            return new MappedSpliterator<>(source, ((ListElementMapper<E, Y>) mapper).mapper, 0, false);
+
+        return new FlatMappedSpliterator<>(source, e -> mapper.apply(e, Collections.emptyListIterator()), 0);
+    }
+
     /**
      * Returns a predicate that throws a read only collection exception.
      *
@@ -370,11 +460,8 @@ public class ViewUtils {
         @SuppressWarnings("unchecked")
         @Override
         public boolean hasNext() {
-            // Checks if current is null
-            boolean isNull = this.getCurrent() == null;
-
-            // Check if current iterator is null or does not have next element
-            if (isNull || !this.getCurrent().hasNext()) {
+            // Check if current iterator is null or does not have next element, skipping elements mapped to empty iterators
+            while (this.getCurrent() == null || !this.getCurrent().hasNext()) {
                 // Check if main iterator does not have more elements
                 if (!this.getMain().hasNext())
                     return false;
@@ -389,8 +476,7 @@ public class ViewUtils {
                 }
             }
 
-            // Check if current iterator is not null and has next element.
-            return this.getCurrent() != null && this.getCurrent().hasNext();
+            return true;
         }
 
         @Override
@@ -496,6 +582,12 @@ public class ViewUtils {
          */
         private ListIterator<Y> current = null;
 
+        /**
+         * Whether the element mapped to current iterator was reached backwards, so main iterator is
+         * positioned before that element instead of after it.
+         */
+        private boolean backwards = false;
+
         public IndexedListIterator(Supplier<ListIterator<E>> i,
                                    BiFunction<E, ListIterator<E>, ListIterator<Y>> mapper,
                                    int startIndex,
@@ -511,14 +603,28 @@ public class ViewUtils {
             }
         }
 
+        @Override
+        public boolean hasNext() {
+            // Skip the element mapped to current iterator before mapping the next one
+            if (this.backwards && !this.current.hasNext()) {
+                this.main.next();
+                this.backwards = false;
+            }
+
+            return super.hasNext();
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         public boolean hasPrevious() {
+            // Check if current iterator is null or does not have previous element, skipping elements mapped to empty iterators
+            while (this.current == null || !this.current.hasPrevious()) {
+                // Skip the element mapped to current iterator before mapping the previous one
+                if (this.current != null && this.isMapperPresent() && !this.backwards) {
+                    this.main.previous();
+                    this.backwards = true;
+                }
 
-            boolean isNull = this.current == null;
-
-            // Check if current iterator is null or does not have previous element
-            if (isNull || !this.current.hasPrevious()) {
                 // Check if main iterator does not have previous elements
                 if (!this.main.hasPrevious())
                     return false;
@@ -528,13 +634,20 @@ public class ViewUtils {
                     // If mapper is not present, uses main iterator.
                     this.setCurrent((Iterator<Y>) this.getMain());
                 } else {
-                    // Sets current iterator to result of mapping the previous element of main iterator to a new iterator using 'mapper'
-                    this.current = mapper.apply(this.main.previous(), this.main);
+                    // Sets current iterator to result of mapping the previous element of main iterator to a new iterator using 'mapper',
+                    // positioned after its last element
+                    ListIterator<Y> previous = this.mapper.apply(this.main.previous(), this.main);
+
+                    while (previous.hasNext()) {
+                        previous.next();
+                    }
+
+                    this.current = previous;
+                    this.backwards = true;
                 }
             }
 
-            // Check if current iterator is not null and has previous element.
-            return this.current != null && this.current.hasPrevious();
+            return true;
         }
 
         @Override
@@ -866,4 +979,222 @@ public class ViewUtils {
         }
     }
 
+    static final class ElementMapper<E, Y> implements BiFunction<E, Iterator<E>, Iterator<Y>> {
+        private final Function<E, Y> mapper;
+
+        ElementMapper(Function<E, Y> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public Iterator<Y> apply(E e, Iterator<E> iterator) {
+            return ViewUtils.mapped(e, iterator, this.mapper);
+        }
+    }
+
+    static final class ListElementMapper<E, Y> implements BiFunction<E, ListIterator<E>, ListIterator<Y>> {
+        private final Function<E, Y> mapper;
+        private final Function<Y, E> unmapper;
+
+        ListElementMapper(Function<E, Y> mapper, Function<Y, E> unmapper) {
+            this.mapper = mapper;
+            this.unmapper = unmapper;
+        }
+
+        @Override
+        public ListIterator<Y> apply(E e, ListIterator<E> iterator) {
+            return ViewUtils.mapped(e, iterator, this.mapper, this.unmapper);
+        }
+    }
+
+    /**
+     * Spliterator which maps each element of source spliterator to exactly one element.
+     */
+    static final class MappedSpliterator<E, Y> implements Spliterator<Y> {
+        private final Spliterator<E> source;
+        private final Function<E, Y> mapper;
+        private final int characteristics;
+        private final boolean identity;
+
+        MappedSpliterator(Spliterator<E> source, Function<E, Y> mapper, int characteristics, boolean identity) {
+            this.source = source;
+            this.mapper = mapper;
+            this.characteristics = characteristics;
+            this.identity = identity;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Y> action) {
+            return this.source.tryAdvance(e -> action.accept(this.mapper.apply(e)));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Y> action) {
+            this.source.forEachRemaining(e -> action.accept(this.mapper.apply(e)));
+        }
+
+        @Override
+        public Spliterator<Y> trySplit() {
+            Spliterator<E> split = this.source.trySplit();
+
+            if (split == null)
+                return null;
+
+            return new MappedSpliterator<>(split, this.mapper, this.characteristics, this.identity);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            int characteristics = this.source.characteristics();
+
+            if (!this.identity)
+                characteristics &= ~(Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL);
+
+            return characteristics | this.characteristics;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Comparator<? super Y> getComparator() {
+            if (this.identity && this.source.hasCharacteristics(Spliterator.SORTED))
+                return (Comparator<? super Y>) this.source.getComparator();
+
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Spliterator which maps each element of source spliterator to an iterator of elements. Only
+     * the source spliterator is split, the elements of an iterator are never split.
+     */
+    static final class FlatMappedSpliterator<E, Y> implements Spliterator<Y> {
+        private final Spliterator<E> source;
+        private final Function<E, Iterator<Y>> mapper;
+        private final int characteristics;
+        private Iterator<Y> current;
+
+        FlatMappedSpliterator(Spliterator<E> source, Function<E, Iterator<Y>> mapper, int characteristics) {
+            this.source = source;
+            this.mapper = mapper;
+            this.characteristics = characteristics;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Y> action) {
+            while (this.current == null || !this.current.hasNext()) {
+                this.current = null;
+
+                if (!this.source.tryAdvance(e -> this.current = this.mapper.apply(e)))
+                    return false;
+            }
+
+            action.accept(this.current.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Y> action) {
+            if (this.current != null) {
+                this.current.forEachRemaining(action);
+                this.current = null;
+            }
+
+            this.source.forEachRemaining(e -> {
+                Iterator<Y> iterator = this.mapper.apply(e);
+
+                if (iterator != null)
+                    iterator.forEachRemaining(action);
+            });
+        }
+
+        @Override
+        public Spliterator<Y> trySplit() {
+            Spliterator<E> split = this.source.trySplit();
+
+            if (split == null)
+                return null;
+
+            // Elements of current iterator come before split elements
+            FlatMappedSpliterator<E, Y> prefix = new FlatMappedSpliterator<>(split, this.mapper, this.characteristics);
+            prefix.current = this.current;
+            this.current = null;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return (this.source.characteristics()
+                    & ~(Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL
+                    | Spliterator.SIZED | Spliterator.SUBSIZED)) | this.characteristics;
+        }
+    }
+
+    /**
+     * Spliterator of a {@link java.util.RandomAccess} list which accesses elements by index.
+     */
+    static final class RandomAccessSpliterator<Y> implements Spliterator<Y> {
+        private final List<Y> list;
+        private int index;
+        private final int fence;
+
+        RandomAccessSpliterator(List<Y> list, int origin, int fence) {
+            this.list = list;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Y> action) {
+            if (this.index >= this.fence)
+                return false;
+
+            action.accept(this.list.get(this.index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Y> action) {
+            int fence = this.fence;
+
+            for (int i = this.index; i < fence; i++) {
+                action.accept(this.list.get(i));
+            }
+
+            this.index = fence;
+        }
+
+        @Override
+        public Spliterator<Y> trySplit() {
+            int origin = this.index;
+            int middle = (origin + this.fence) >>> 1;
+
+            if (origin >= middle)
+                return null;
+
+            this.index = middle;
+            return new RandomAccessSpliterator<>(this.list, origin, middle);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.fence - this.index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
 }
@@ -33,6 +33,7 @@ import com.github.jonathanxd.iutils.iterator.IteratorUtil;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Spliterator;
 
 public abstract class ImmutableWrapperCollection<E> implements ImmutableCollection<E>, WrapperCollection<E> {
 
@@ -56,6 +57,11 @@ public abstract class ImmutableWrapperCollection<E> implements ImmutableCollecti
         return IteratorUtil.immutableIterator(this.getWrapped().iterator());
     }
 
+    @Override
+    public Spliterator<E> spliterator() {
+        return this.getWrapped().spliterator();
+    }
+
     @Override
     public Object[] toArray() {
         return this.getWrapped().toArray();
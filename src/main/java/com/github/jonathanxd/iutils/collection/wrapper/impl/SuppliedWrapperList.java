@@ -33,6 +33,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Spliterator;
 import java.util.function.Supplier;
 
 public class SuppliedWrapperList<T> implements WrapperList<T> {
@@ -71,6 +72,11 @@ public class SuppliedWrapperList<T> implements WrapperList<T> {
         return new SuppliedWrapperIterator<>(this.getList()::iterator);
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return this.getList().spliterator();
+    }
+
     @Override
     public Object[] toArray() {
         return this.getList().toArray();
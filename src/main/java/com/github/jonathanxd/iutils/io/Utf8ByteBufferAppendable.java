@@ -0,0 +1,141 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.io;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link Appendable} which encodes appended characters as {@code UTF-8} directly into a {@link
+ * ByteBuffer}, without creating intermediate strings or byte arrays.
+ *
+ * A high surrogate appended at the end of a call is kept until the next call, so surrogate pairs
+ * may be split across calls. Unpaired surrogates are encoded as {@code ?}, like {@link
+ * String#getBytes(java.nio.charset.Charset)} does.
+ *
+ * A {@link BufferOverflowException} is thrown if the buffer does not have enough space, in this
+ * case the buffer position is left after the last fully encoded character.
+ */
+public final class Utf8ByteBufferAppendable implements Appendable {
+    private final ByteBuffer buffer;
+    private char highSurrogate = 0;
+
+    public Utf8ByteBufferAppendable(@NotNull ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Gets the buffer which characters are encoded into.
+     *
+     * @return Buffer which characters are encoded into.
+     */
+    public ByteBuffer getBuffer() {
+        return this.buffer;
+    }
+
+    @Override
+    public Utf8ByteBufferAppendable append(CharSequence csq) {
+        if (csq == null)
+            csq = "null";
+
+        return this.append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Utf8ByteBufferAppendable append(CharSequence csq, int start, int end) {
+        if (csq == null)
+            csq = "null";
+
+        for (int i = start; i < end; i++) {
+            this.append(csq.charAt(i));
+        }
+
+        return this;
+    }
+
+    @Override
+    public Utf8ByteBufferAppendable append(char c) {
+        ByteBuffer buffer = this.buffer;
+
+        if (this.highSurrogate != 0) {
+            char high = this.highSurrogate;
+            this.highSurrogate = 0;
+
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+
+                if (buffer.remaining() < 4)
+                    throw new BufferOverflowException();
+
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                return this;
+            }
+
+            buffer.put((byte) '?');
+        }
+
+        if (c < 0x80) {
+            buffer.put((byte) c);
+        } else if (c < 0x800) {
+            if (buffer.remaining() < 2)
+                throw new BufferOverflowException();
+
+            buffer.put((byte) (0xC0 | (c >> 6)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer.put((byte) '?');
+        } else {
+            if (buffer.remaining() < 3)
+                throw new BufferOverflowException();
+
+            buffer.put((byte) (0xE0 | (c >> 12)));
+            buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        }
+
+        return this;
+    }
+
+    /**
+     * Encodes pending high surrogate, if any, as {@code ?}. Must be called after the last
+     * character is appended.
+     */
+    public void finish() {
+        if (this.highSurrogate != 0) {
+            this.highSurrogate = 0;
+            this.buffer.put((byte) '?');
+        }
+    }
+}
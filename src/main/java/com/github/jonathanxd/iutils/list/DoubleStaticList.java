@@ -0,0 +1,337 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.list;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+/**
+ * A {@link StaticList} of {@code double} values, stored without boxing.
+ *
+ * Occupied slots are tracked in a bitmap, as primitive values have no {@code null} to mark empty
+ * slots, and empty slots are filled from the lowest index. Elements are compared as {@link
+ * Double#equals(Object)} does, so {@code NaN} is found and {@code 0.0} differs from {@code -0.0}.
+ */
+public final class DoubleStaticList {
+
+    /**
+     * Values of all slots, values of empty slots are unspecified.
+     */
+    private final double[] values;
+
+    /**
+     * Occupancy of {@link #values}.
+     */
+    private final SlotBitmap slots;
+
+    private DoubleStaticList(int size) {
+        this.values = new double[size];
+        this.slots = new SlotBitmap(size);
+    }
+
+    /**
+     * Creates a {@link DoubleStaticList} with predefined size.
+     *
+     * @param size Predefined size of the list.
+     * @return {@link DoubleStaticList}.
+     */
+    public static DoubleStaticList createStaticListOf(final int size) {
+        if (size <= 0) {
+            throw new RuntimeException("Cannot create a static list with 0 or negative size!");
+        }
+        return new DoubleStaticList(size);
+    }
+
+    /**
+     * Adds {@code element} to the first empty slot.
+     *
+     * @param element Element to add.
+     * @return True if successfully added {@code element}, false if list is full.
+     */
+    public boolean add(double element) {
+        int slot = this.nextEmptySlot();
+
+        if (slot == -1)
+            return false;
+
+        this.put(slot, element);
+        return true;
+    }
+
+    /**
+     * Adds {@code element} at {@code index} if the slot is empty.
+     *
+     * @param index   Index.
+     * @param element Element to add.
+     * @return True if successfully added element, false if slot is not empty.
+     */
+    public boolean add(int index, double element) {
+        this.checkIndex(index);
+
+        if (this.slots.isOccupied(index))
+            return false;
+
+        this.put(index, element);
+        return true;
+    }
+
+    /**
+     * Sets the element at {@code index}, replacing the current element, if present.
+     *
+     * @param index   Index.
+     * @param element Element to set.
+     * @return True if an element was replaced.
+     */
+    public boolean set(int index, double element) {
+        this.checkIndex(index);
+
+        boolean replaced = this.slots.isOccupied(index);
+        this.put(index, element);
+        return replaced;
+    }
+
+    /**
+     * Removes the element at {@code index}.
+     *
+     * @param index Index.
+     * @return True if successfully removed element.
+     */
+    public boolean remove(int index) {
+        this.checkIndex(index);
+
+        if (!this.slots.isOccupied(index))
+            return false;
+
+        this.slots.free(index);
+        return true;
+    }
+
+    /**
+     * Removes the first occurrence of {@code element}.
+     *
+     * @param element Element to remove.
+     * @return True if successfully removed {@code element}.
+     */
+    public boolean removeElement(double element) {
+        int index = this.indexOf(element);
+
+        if (index == -1)
+            return false;
+
+        this.slots.free(index);
+        return true;
+    }
+
+    /**
+     * Removes all elements.
+     */
+    public void clear() {
+        this.slots.clear();
+    }
+
+    /**
+     * Gets the element at {@code index}.
+     *
+     * @param index Index.
+     * @return Element at {@code index}.
+     * @throws NoSuchElementException If the slot at {@code index} is empty.
+     */
+    public double get(int index) {
+        this.checkIndex(index);
+
+        if (!this.slots.isOccupied(index))
+            throw new NoSuchElementException("Empty slot: " + index);
+
+        return this.values[index];
+    }
+
+    /**
+     * Returns true if the slot at {@code index} holds an element.
+     *
+     * @param index Index.
+     * @return True if the slot at {@code index} holds an element.
+     */
+    public boolean isOccupied(int index) {
+        this.checkIndex(index);
+        return this.slots.isOccupied(index);
+    }
+
+    /**
+     * Gets the index of the first occurrence of {@code element}.
+     *
+     * @param element Element.
+     * @return Index of the first occurrence of {@code element}, or {@code -1} if not present.
+     */
+    public int indexOf(double element) {
+        for (int x = this.slots.nextOccupied(0); x != -1; x = this.slots.nextOccupied(x + 1)) {
+            if (Double.doubleToLongBits(this.values[x]) == Double.doubleToLongBits(element))
+                return x;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns true if the list contains the element {@code element}.
+     *
+     * @param element Element.
+     * @return True if the list contains the element {@code element}.
+     */
+    public boolean contains(double element) {
+        return this.indexOf(element) != -1;
+    }
+
+    /**
+     * Gets the next empty slot.
+     *
+     * @return Next empty slot, or {@code -1} if the list is full.
+     */
+    public int nextEmptySlot() {
+        return this.slots.nextFree(0);
+    }
+
+    /**
+     * Returns true if the list has empty slot(s) (is not full).
+     *
+     * @return True if the list has empty slot(s).
+     */
+    public boolean hasEmptySlot() {
+        return this.slots.free() != 0;
+    }
+
+    /**
+     * Returns amount of empty slots.
+     *
+     * @return Amount of empty slots.
+     */
+    public int emptySlots() {
+        return this.slots.free();
+    }
+
+    /**
+     * Returns amount of elements.
+     *
+     * @return Amount of elements.
+     */
+    public int count() {
+        return this.slots.occupied();
+    }
+
+    /**
+     * Returns true if the list is empty.
+     *
+     * @return True if is empty.
+     */
+    public boolean isEmpty() {
+        return this.slots.occupied() == 0;
+    }
+
+    /**
+     * Returns true if the list is full.
+     *
+     * @return True if the list is full.
+     */
+    public boolean isFull() {
+        return this.slots.free() == 0;
+    }
+
+    /**
+     * Returns the size of list.
+     *
+     * @return Size of list.
+     */
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * Calls {@code consumer} with each element, in slot order.
+     *
+     * @param consumer Element consumer.
+     */
+    public void forEach(DoubleConsumer consumer) {
+        for (int x = this.slots.nextOccupied(0); x != -1; x = this.slots.nextOccupied(x + 1)) {
+            consumer.accept(this.values[x]);
+        }
+    }
+
+    /**
+     * Creates a stream of elements, in slot order.
+     *
+     * @return Stream of elements.
+     */
+    public DoubleStream stream() {
+        return Arrays.stream(this.toArray());
+    }
+
+    /**
+     * Gets an array with all elements, in slot order, without empty slots.
+     *
+     * @return Array with all elements.
+     */
+    public double[] toArray() {
+        double[] array = new double[this.slots.occupied()];
+        int i = 0;
+
+        for (int x = this.slots.nextOccupied(0); x != -1; x = this.slots.nextOccupied(x + 1)) {
+            array[i++] = this.values[x];
+        }
+
+        return array;
+    }
+
+    private void put(int index, double element) {
+        this.values[index] = element;
+        this.slots.occupy(index);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException("Element[" + this.toString() + "]. Suggested index: " + index);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+
+        for (int x = this.slots.nextOccupied(0); x != -1; x = this.slots.nextOccupied(x + 1)) {
+            if (sb.length() > 1)
+                sb.append(',').append(' ');
+
+            sb.append(this.values[x]);
+        }
+
+        sb.append(']');
+        sb.append(". Data: [Size: ").append(this.size()).append(", Empty Slots: ").append(this.emptySlots()).append("]");
+        return sb.toString();
+    }
+}
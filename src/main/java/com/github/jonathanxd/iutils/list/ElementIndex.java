@@ -0,0 +1,79 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.list;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash index of elements of a list, counting occurrences of each element so the index stays
+ * consistent when a list holds duplicated elements.
+ */
+final class ElementIndex {
+
+    private final Map<Object, Integer> counts;
+    private int size;
+
+    ElementIndex() {
+        this.counts = new HashMap<>();
+    }
+
+    ElementIndex(Iterable<?> elements) {
+        this();
+        this.addAll(elements);
+    }
+
+    boolean contains(Object o) {
+        return this.counts.containsKey(o);
+    }
+
+    void add(Object o) {
+        this.counts.merge(o, 1, Integer::sum);
+        ++this.size;
+    }
+
+    void addAll(Iterable<?> elements) {
+        for (Object element : elements) {
+            this.add(element);
+        }
+    }
+
+    void remove(Object o) {
+        this.counts.computeIfPresent(o, (k, count) -> count == 1 ? null : count - 1);
+        --this.size;
+    }
+
+    /**
+     * Gets the amount of indexed elements, including duplicated elements.
+     *
+     * @return Amount of indexed elements.
+     */
+    int size() {
+        return this.size;
+    }
+}
@@ -27,16 +27,45 @@
  */
 package com.github.jonathanxd.iutils.list;
 
+import java.util.AbstractList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * A {@link java.util.Set Set-like} {@link java.util.List}.
  *
+ * Elements are indexed by hash, so {@link #contains(Object)} and additions do not search the list.
+ * Changes which the index does not follow are detected by {@link #modCount}, replacements made
+ * through {@link #subList(int, int) sub lists} discard the index.
+ *
  * @param <E> Element type.
  */
 @Deprecated
 public class ListSet<E> extends AbstractPredicateList<E> {
 
+    /**
+     * Index of elements, created lazily as constructors add elements before fields are
+     * initialized.
+     */
+    private transient ElementIndex index;
+
+    /**
+     * {@link #modCount} of the list when {@link #index} was last updated.
+     */
+    private transient int indexModCount;
+
+    /**
+     * Whether elements are being replaced in place, the index cannot be used while replacing.
+     */
+    private transient boolean replacing;
+
     public ListSet(int initialCapacity) {
         super(initialCapacity);
     }
@@ -54,8 +83,274 @@ public class ListSet<E> extends AbstractPredicateList<E> {
         return !this.contains(e);
     }
 
+    @Override
+    public boolean contains(Object o) {
+        if (this.replacing)
+            return super.contains(o);
+
+        return this.getIndex().contains(o);
+    }
+
     @Override
     public void onReject(E e) {
     }
 
-}
\ No newline at end of file
+    @Override
+    public boolean add(E e) {
+        ElementIndex index = this.getIndex();
+        boolean added = super.add(e);
+
+        if (added)
+            this.updated(index).add(e);
+
+        return added;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        ElementIndex elementIndex = this.getIndex();
+        int size = this.size();
+
+        super.add(index, element);
+
+        if (this.size() != size)
+            this.updated(elementIndex).add(element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        ElementIndex index = this.getIndex();
+        int size = this.size();
+        boolean changed = super.addAll(c);
+
+        if (changed)
+            this.updated(index).addAll(this.subList(size, this.size()));
+
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        ElementIndex elementIndex = this.getIndex();
+        int size = this.size();
+        boolean changed = super.addAll(index, c);
+
+        if (changed)
+            this.updated(elementIndex).addAll(this.subList(index, index + this.size() - size));
+
+        return changed;
+    }
+
+    @Override
+    public E remove(int index) {
+        ElementIndex elementIndex = this.getIndex();
+        E removed = super.remove(index);
+
+        this.updated(elementIndex).remove(removed);
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        ElementIndex index = this.getIndex();
+        boolean removed = super.remove(o);
+
+        if (removed)
+            this.updated(index).remove(o);
+
+        return removed;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        if (!this.isAcceptable(element)) {
+            this.onReject(element);
+            return null;
+        }
+
+        ElementIndex elementIndex = this.getIndex();
+        E old = this.get(index);
+
+        super.set(index, element);
+
+        this.updated(elementIndex).remove(old);
+        elementIndex.add(element);
+        return null;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        this.replacing = true;
+
+        try {
+            super.replaceAll(operator);
+        } finally {
+            this.replacing = false;
+            this.index = null;
+        }
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return new SubList(super.subList(fromIndex, toIndex));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object clone() {
+        ListSet<E> clone = (ListSet<E>) super.clone();
+        clone.index = null;
+        return clone;
+    }
+
+    /**
+     * Gets the index of elements, creating it if it was not created yet or if the list was
+     * changed in a way that the index does not follow.
+     */
+    private ElementIndex getIndex() {
+        ElementIndex index = this.index;
+
+        if (index == null || this.indexModCount != this.modCount) {
+            this.index = index = new ElementIndex(this);
+            this.indexModCount = this.modCount;
+        }
+
+        return index;
+    }
+
+    /**
+     * Marks {@code index}, which was valid before the current change, as valid after the change.
+     */
+    private ElementIndex updated(ElementIndex index) {
+        this.indexModCount = this.modCount;
+        return index;
+    }
+
+    /**
+     * Sub list which discards the index of the list when elements are replaced, as sub lists of
+     * {@link java.util.ArrayList} replace elements without changing {@link #modCount}.
+     */
+    private final class SubList extends AbstractList<E> implements RandomAccess {
+        private final List<E> wrapped;
+
+        SubList(List<E> wrapped) {
+            this.wrapped = wrapped;
+        }
+
+        @Override
+        public E get(int index) {
+            return this.wrapped.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.wrapped.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return this.wrapped.contains(o);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return this.wrapped.indexOf(o);
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return this.wrapped.lastIndexOf(o);
+        }
+
+        @Override
+        public Object[] toArray() {
+            return this.wrapped.toArray();
+        }
+
+        @Override
+        public <T> T[] toArray(T[] a) {
+            return this.wrapped.toArray(a);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            E old = this.wrapped.set(index, element);
+            ListSet.this.index = null;
+            return old;
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<E> operator) {
+            try {
+                this.wrapped.replaceAll(operator);
+            } finally {
+                ListSet.this.index = null;
+            }
+        }
+
+        @Override
+        public void sort(Comparator<? super E> c) {
+            this.wrapped.sort(c);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            this.wrapped.add(index, element);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            return this.wrapped.addAll(c);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            return this.wrapped.addAll(index, c);
+        }
+
+        @Override
+        public E remove(int index) {
+            return this.wrapped.remove(index);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            return this.wrapped.removeAll(c);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            return this.wrapped.retainAll(c);
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            return this.wrapped.removeIf(filter);
+        }
+
+        @Override
+        public void clear() {
+            this.wrapped.clear();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return this.wrapped.iterator();
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            return this.wrapped.listIterator(index);
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            return this.wrapped.spliterator();
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            return new SubList(this.wrapped.subList(fromIndex, toIndex));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.list;
+
+import java.util.Arrays;
+
+/**
+ * Occupancy bitmap of a fixed amount of slots, one bit per slot, so free and occupied slots are
+ * found a word at a time and the amount of occupied slots is known without scanning.
+ */
+final class SlotBitmap {
+
+    private final long[] words;
+    private final int size;
+    private int occupied;
+
+    SlotBitmap(int size) {
+        this.size = size;
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    boolean isOccupied(int slot) {
+        return (this.words[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    void occupy(int slot) {
+        int word = slot >>> 6;
+        long bit = 1L << slot;
+
+        if ((this.words[word] & bit) == 0) {
+            this.words[word] |= bit;
+            ++this.occupied;
+        }
+    }
+
+    void free(int slot) {
+        int word = slot >>> 6;
+        long bit = 1L << slot;
+
+        if ((this.words[word] & bit) != 0) {
+            this.words[word] &= ~bit;
+            --this.occupied;
+        }
+    }
+
+    void clear() {
+        Arrays.fill(this.words, 0L);
+        this.occupied = 0;
+    }
+
+    /**
+     * Gets the amount of occupied slots.
+     *
+     * @return Amount of occupied slots.
+     */
+    int occupied() {
+        return this.occupied;
+    }
+
+    /**
+     * Gets the amount of free slots.
+     *
+     * @return Amount of free slots.
+     */
+    int free() {
+        return this.size - this.occupied;
+    }
+
+    /**
+     * Finds the first free slot at or after {@code from}.
+     *
+     * @param from Slot to start from.
+     * @return First free slot at or after {@code from}, or {@code -1} if there is none.
+     */
+    int nextFree(int from) {
+        if (from >= this.size)
+            return -1;
+
+        int word = from >>> 6;
+        long bits = ~this.words[word] & (-1L << from);
+
+        while (true) {
+            if (bits != 0) {
+                int slot = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return slot < this.size ? slot : -1;
+            }
+
+            if (++word == this.words.length)
+                return -1;
+
+            bits = ~this.words[word];
+        }
+    }
+
+    /**
+     * Finds the first occupied slot at or after {@code from}.
+     *
+     * @param from Slot to start from.
+     * @return First occupied slot at or after {@code from}, or {@code -1} if there is none.
+     */
+    int nextOccupied(int from) {
+        if (from >= this.size)
+            return -1;
+
+        int word = from >>> 6;
+        long bits = this.words[word] & (-1L << from);
+
+        while (true) {
+            if (bits != 0)
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+
+            if (++word == this.words.length)
+                return -1;
+
+            bits = this.words[word];
+        }
+    }
+}
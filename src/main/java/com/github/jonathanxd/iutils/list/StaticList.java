@@ -39,6 +39,9 @@ import java.util.Objects;
  * A list with a predefined size. This size is constant and cannot be changed. This List only holds
  * this amount of elements.
  *
+ * Occupied slots are tracked in a bitmap and elements are indexed by hash, so finding an empty
+ * slot, counting empty slots and {@link #contains(Object)} do not scan the values.
+ *
  * @param <T> Type of elements.
  */
 @Deprecated
@@ -59,6 +62,16 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
      */
     private final Class<? extends T> clazz;
 
+    /**
+     * Occupancy of {@link #values}.
+     */
+    private final SlotBitmap slots;
+
+    /**
+     * Index of non-null elements.
+     */
+    private final ElementIndex index;
+
     /**
      * Cache the empty slots for a fast-add function.
      */
@@ -70,6 +83,8 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
         this.size = size;
         this.clazz = clazz;
         this.values = (T[]) Array.newInstance(clazz, this.size);
+        this.slots = new SlotBitmap(size);
+        this.index = new ElementIndex();
     }
 
     /**
@@ -104,7 +119,7 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
         int caching = this.nextEmptySlot();
 
         if (caching != -1) {
-            this.values[caching] = element;
+            this.put(caching, element);
             this.nextEmptySlot();
             return true;
         }
@@ -120,17 +135,19 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
             caching = this.size() - 1;
         }
 
-        T oldValue = this.values[caching];
-        this.values[caching] = element;
+        T oldValue = this.put(caching, element);
         this.nextEmptySlot();
         return oldValue != null ? MutableContainer.of(oldValue) : MutableContainer.empty();
     }
 
     @Override
     public boolean remove(T element) {
-        for (int x = 0; x < this.size(); ++x) {
-            if (this.values[x] != null && values[x].equals(element)) {
-                this.values[x] = null;
+        if (!this.contains(element))
+            return false;
+
+        for (int x = this.slots.nextOccupied(0); x != -1; x = this.slots.nextOccupied(x + 1)) {
+            if (this.values[x].equals(element)) {
+                this.put(x, null);
                 this.slotCache = x;
                 return true;
             }
@@ -140,18 +157,12 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
 
     @Override
     public boolean isEmpty() {
-        return this.emptySlots() == this.values.length;
+        return this.slots.occupied() == 0;
     }
 
     @Override
     public int emptySlots() {
-        int empty = 0;
-        for (int x = 0; x < size; ++x) {
-            if (this.values[x] == null) {
-                ++empty;
-            }
-        }
-        return empty;
+        return this.slots.free();
     }
 
     @Override
@@ -168,8 +179,8 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
     public boolean add(int index, T element) {
         this.checkIndex(index);
 
-        if (this.values[index] == null) {
-            this.values[index] = element;
+        if (!this.slots.isOccupied(index)) {
+            this.put(index, element);
             this.nextEmptySlot();
             return true;
         }
@@ -180,8 +191,7 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
     public BaseContainer<T> holdAndAdd(int index, T element) {
         this.checkIndex(index);
 
-        T old = this.values[index];
-        this.values[index] = element;
+        T old = this.put(index, element);
         this.nextEmptySlot();
 
         return (old == null ? MutableContainer.empty() : MutableContainer.of(old));
@@ -191,10 +201,10 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
     public boolean remove(int index) {
         this.checkIndex(index);
 
-        if (this.values[index] == null) {
+        if (!this.slots.isOccupied(index)) {
             return false;
         }
-        this.values[index] = null;
+        this.put(index, null);
         this.slotCache = index;
         return true;
     }
@@ -203,12 +213,11 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
     public BaseContainer<T> holdAndRemove(int index) {
         this.checkIndex(index);
 
-        if (this.values[index] == null) {
+        if (!this.slots.isOccupied(index)) {
             return MutableContainer.empty();
         }
 
-        T old = values[index];
-        this.values[index] = null;
+        T old = this.put(index, null);
         this.slotCache = index;
         return MutableContainer.of(old);
     }
@@ -221,19 +230,18 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
     @Override
     public int nextEmptySlot() {
         if (this.slotCache > -1 && this.slotCache < this.values.length) {
-            if (this.values[this.slotCache] == null) {
+            if (!this.slots.isOccupied(this.slotCache)) {
                 return this.slotCache;
             }
         }
 
-        for (int x = 0; x < this.values.length; ++x) {
-            if (this.values[x] == null) {
-                this.slotCache = x;
-                return x;
-            }
+        int x = this.slots.nextFree(0);
+
+        if (x != -1) {
+            this.slotCache = x;
         }
 
-        return -1;
+        return x;
     }
 
     @Override
@@ -271,16 +279,34 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
         }
     }
 
+    /**
+     * Stores {@code element} at {@code slot}, a {@code null} element frees the slot.
+     *
+     * @param slot    Slot to store element.
+     * @param element Element to store.
+     * @return Old element at {@code slot}.
+     */
+    private T put(int slot, T element) {
+        T old = this.values[slot];
+
+        if (old != null)
+            this.index.remove(old);
+
+        this.values[slot] = element;
+
+        if (element != null) {
+            this.slots.occupy(slot);
+            this.index.add(element);
+        } else {
+            this.slots.free(slot);
+        }
+
+        return old;
+    }
+
     @Override
     public boolean contains(T element) {
-        for (int x = 0; x < this.size(); ++x) {
-            if (this.values[x] != null && this.values[x].equals(element)) {
-                return true;
-            } else if (this.values[x] == null) {
-                this.nextEmptySlot();
-            }
-        }
-        return false;
+        return element != null && this.index.contains(element);
     }
 
     /**
@@ -290,7 +316,7 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
     public BaseContainer<T> get(int index) {
         checkIndex(index);
 
-        if (this.values[index] == null) {
+        if (!this.slots.isOccupied(index)) {
             updateCache(index);
             return MutableContainer.empty();
         }
@@ -298,7 +324,7 @@ public class StaticList<T> implements IndexedListContainer<T>, Iterable<T> {
     }
 
     private void updateCache(int index) {
-        if (this.values[slotCache] != null && this.values[index] == null) {
+        if (this.slots.isOccupied(this.slotCache) && !this.slots.isOccupied(index)) {
             this.slotCache = index;
         }
     }
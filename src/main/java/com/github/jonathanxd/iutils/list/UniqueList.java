@@ -28,35 +28,320 @@
 package com.github.jonathanxd.iutils.list;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.function.UnaryOperator;
 
 /**
  * An {@link AbstractPredicateWrappedList} that does not allow duplicated elements and does not
  * throw exceptions when trying to add duplicated elements.
  *
+ * Elements are indexed by hash, so {@link #contains(Object)} and additions do not search the
+ * wrapped list. The index is kept consistent with changes made through this list, its iterators,
+ * its sub lists and the lists of which it is a sub list, changes made directly to the wrapped list
+ * are only detected when they change its size.
+ *
  * @param <E> Element type.
  */
 public class UniqueList<E> extends AbstractPredicateWrappedList<E> {
 
+    /**
+     * List of which this list is a sub list (directly or not), or this list.
+     */
+    private final UniqueList<E> root;
+
+    /**
+     * Amount of changes made through {@link #root} and its sub lists, only used in {@link #root}.
+     */
+    private int modifications;
+
+    /**
+     * Index of elements, {@code null} if it needs to be created.
+     */
+    private ElementIndex index;
+
+    /**
+     * {@link #modifications} of {@link #root} when {@link #index} was last updated.
+     */
+    private int indexModifications;
+
+    /**
+     * Whether elements are being replaced in place, the index cannot be used while replacing.
+     */
+    private boolean replacing;
+
     public UniqueList() {
         this(new ArrayList<>());
     }
 
     public UniqueList(List<E> list) {
+        this(list, null);
+    }
+
+    private UniqueList(List<E> list, UniqueList<E> parent) {
         super(list);
+        this.root = parent != null ? parent.root : this;
     }
 
     @Override
     public boolean isAcceptable(E e) {
-        return !this.getWrappedList().contains(e);
+        return !this.contains(e);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (this.replacing)
+            return this.getWrappedList().contains(o);
+
+        return this.getIndex().contains(o);
     }
 
     @Override
     public void onReject(E e) {
     }
 
+    @Override
+    public boolean add(E e) {
+        boolean added = super.add(e);
+
+        if (added)
+            this.added(e);
+
+        return added;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        int size = this.getWrappedList().size();
+
+        super.add(index, element);
+
+        if (this.getWrappedList().size() != size)
+            this.added(element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        int size = this.getWrappedList().size();
+        boolean changed = super.addAll(c);
+
+        if (changed)
+            this.addedRange(size, this.getWrappedList().size() - size);
+
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        int size = this.getWrappedList().size();
+        boolean changed = super.addAll(index, c);
+
+        if (changed)
+            this.addedRange(index, this.getWrappedList().size() - size);
+
+        return changed;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean remove(Object o) {
+        boolean removed = super.remove(o);
+
+        if (removed)
+            this.removed((E) o);
+
+        return removed;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = super.remove(index);
+        this.removed(removed);
+        return removed;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        if (!this.isAcceptable(element)) {
+            this.onReject(element);
+        } else {
+            E old = this.getWrappedList().set(index, element);
+            this.removed(old);
+            this.added(element);
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean changed = super.removeAll(c);
+
+        if (changed)
+            this.invalidate();
+
+        return changed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        boolean changed = super.retainAll(c);
+
+        if (changed)
+            this.invalidate();
+
+        return changed;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        this.replacing = true;
+
+        try {
+            super.replaceAll(operator);
+        } finally {
+            this.replacing = false;
+            this.invalidate();
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.invalidate();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return this.listIterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return new IndexedListIterator(this.getWrappedList().listIterator());
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return new IndexedListIterator(this.getWrappedList().listIterator(index));
+    }
+
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
-        return new UniqueList<>(this.getWrappedList().subList(fromIndex, toIndex));
+        return new UniqueList<>(this.getWrappedList().subList(fromIndex, toIndex), this);
+    }
+
+    /**
+     * Gets the index of elements, creating it if it was not created yet, if the list was changed
+     * through a related list (sub list or parent list) or if the size of wrapped list changed
+     * without using this list.
+     */
+    private ElementIndex getIndex() {
+        ElementIndex index = this.index;
+
+        if (index == null
+                || this.indexModifications != this.root.modifications
+                || index.size() != this.getWrappedList().size()) {
+            this.index = index = new ElementIndex(this.getWrappedList());
+            this.indexModifications = this.root.modifications;
+        }
+
+        return index;
+    }
+
+    private void added(E e) {
+        ElementIndex index = this.modified();
+
+        if (index != null)
+            index.add(e);
+    }
+
+    private void addedRange(int from, int count) {
+        ElementIndex index = this.modified();
+
+        if (index != null)
+            index.addAll(this.getWrappedList().subList(from, from + count));
+    }
+
+    private void removed(E e) {
+        ElementIndex index = this.modified();
+
+        if (index != null)
+            index.remove(e);
+    }
+
+    private void invalidate() {
+        this.modified();
+        this.index = null;
+    }
+
+    /**
+     * Records a change made through this list, which makes the index of every related list stale,
+     * as all of them share the same elements.
+     *
+     * @return Index of this list to update with the change, or {@code null} if it was already
+     * stale before the change.
+     */
+    private ElementIndex modified() {
+        ElementIndex index = this.index;
+        boolean valid = index != null && this.indexModifications == this.root.modifications;
+
+        this.indexModifications = ++this.root.modifications;
+
+        if (!valid)
+            this.index = null;
+
+        return valid ? index : null;
+    }
+
+    /**
+     * List iterator which keeps the index consistent with changes made through it.
+     */
+    private final class IndexedListIterator extends PredicateWrappedListIterator<E> {
+        private E last;
+
+        IndexedListIterator(ListIterator<E> wrapped) {
+            super(UniqueList.this, wrapped);
+        }
+
+        @Override
+        public E next() {
+            return this.last = super.next();
+        }
+
+        @Override
+        public E previous() {
+            return this.last = super.previous();
+        }
+
+        @Override
+        public void remove() {
+            super.remove();
+            UniqueList.this.removed(this.last);
+        }
+
+        @Override
+        public void set(E e) {
+            if (!UniqueList.this.isAcceptable(e)) {
+                UniqueList.this.onReject(e);
+            } else {
+                this.getWrappedListIterator().set(e);
+                UniqueList.this.removed(this.last);
+                UniqueList.this.added(e);
+                this.last = e;
+            }
+        }
+
+        @Override
+        public void add(E e) {
+            if (!UniqueList.this.isAcceptable(e)) {
+                UniqueList.this.onReject(e);
+            } else {
+                this.getWrappedListIterator().add(e);
+                UniqueList.this.added(e);
+            }
+        }
     }
 }
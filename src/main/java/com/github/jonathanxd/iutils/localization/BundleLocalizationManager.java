@@ -0,0 +1,136 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.localization;
+
+import com.github.jonathanxd.iutils.text.TextComponent;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe {@link LocalizationManager} backed by a {@link LocaleBundle}.
+ *
+ * Localizations of the bundle are only materialized when first requested. Localizations registered
+ * through this manager are kept separately and are appended after bundle localizations of the same
+ * key. The bundle can be {@link #setBundle(LocaleBundle) replaced} at any time, registered
+ * localizations are kept.
+ */
+public final class BundleLocalizationManager implements LocalizationManager {
+    private final ConcurrentLocalizationManager registered = new ConcurrentLocalizationManager();
+    private final AtomicLong modificationCount = new AtomicLong();
+    private volatile LocaleBundle bundle;
+
+    public BundleLocalizationManager(@NotNull LocaleBundle bundle) {
+        this.bundle = Objects.requireNonNull(bundle);
+    }
+
+    public BundleLocalizationManager() {
+        this(LocaleBundle.empty());
+    }
+
+    /**
+     * Gets the backing bundle.
+     *
+     * @return Backing bundle.
+     */
+    @NotNull
+    public LocaleBundle getBundle() {
+        return this.bundle;
+    }
+
+    /**
+     * Replaces the backing bundle.
+     *
+     * @param bundle New backing bundle.
+     * @return Old backing bundle.
+     */
+    @NotNull
+    public LocaleBundle setBundle(@NotNull LocaleBundle bundle) {
+        LocaleBundle old = this.bundle;
+        this.bundle = Objects.requireNonNull(bundle);
+        this.modificationCount.incrementAndGet();
+        return old;
+    }
+
+    @Override
+    public boolean registerLocalization(String key, TextComponent text) {
+        boolean first = this.registered.registerLocalization(key, text) && !this.bundle.containsKey(key);
+        this.modificationCount.incrementAndGet();
+        return first;
+    }
+
+    @Override
+    public boolean registerLocalizations(String key, Iterable<? extends TextComponent> texts) {
+        boolean first = this.registered.registerLocalizations(key, texts) && !this.bundle.containsKey(key);
+        this.modificationCount.incrementAndGet();
+        return first;
+    }
+
+    @Override
+    public TextComponent getLocalization(String key) {
+        TextComponent localization = this.registered.getLocalization(key);
+
+        if (localization != null)
+            return localization;
+
+        List<TextComponent> localizations = this.bundle.getLocalizations(key);
+
+        if (localizations.isEmpty())
+            return null;
+
+        return localizations.get(localizations.size() - 1);
+    }
+
+    @Override
+    public List<TextComponent> getLocalizations(String key) {
+        List<TextComponent> bundleLocalizations = this.bundle.getLocalizations(key);
+        List<TextComponent> registeredLocalizations = this.registered.getLocalizations(key);
+
+        if (registeredLocalizations.isEmpty())
+            return bundleLocalizations;
+
+        if (bundleLocalizations.isEmpty())
+            return registeredLocalizations;
+
+        List<TextComponent> localizations = new ArrayList<>(bundleLocalizations.size() + registeredLocalizations.size());
+        localizations.addAll(bundleLocalizations);
+        localizations.addAll(registeredLocalizations);
+
+        return Collections.unmodifiableList(localizations);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return this.modificationCount.get();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.localization;
+
+import com.github.jonathanxd.iutils.text.TextComponent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe {@link LocalizationManager}.
+ *
+ * Each key is associated to an immutable snapshot of its localizations, registration replaces the
+ * snapshot with a new copy (copy-on-write), so reads never block and never copy. Lists returned
+ * by {@link #getLocalizations(String)} are unmodifiable and are not affected by later
+ * registrations.
+ *
+ * Keys cannot be {@code null}.
+ */
+public final class ConcurrentLocalizationManager implements LocalizationManager {
+    private final Map<String, List<TextComponent>> componentMap = new ConcurrentHashMap<>();
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    @Override
+    public boolean registerLocalization(String key, TextComponent text) {
+        return this.register(key, new TextComponent[]{text});
+    }
+
+    @Override
+    public boolean registerLocalizations(String key, Iterable<? extends TextComponent> texts) {
+        TextComponent[] components;
+
+        if (texts instanceof Collection<?>) {
+            components = ((Collection<? extends TextComponent>) texts).toArray(new TextComponent[0]);
+        } else {
+            List<TextComponent> list = new ArrayList<>();
+
+            for (TextComponent text : texts) {
+                list.add(text);
+            }
+
+            components = list.toArray(new TextComponent[0]);
+        }
+
+        if (components.length == 0)
+            return !this.componentMap.containsKey(key);
+
+        return this.register(key, components);
+    }
+
+    private boolean register(String key, TextComponent[] components) {
+        boolean[] first = {false};
+
+        this.componentMap.compute(key, (k, old) -> {
+            if (old == null) {
+                first[0] = true;
+                return Collections.unmodifiableList(Arrays.asList(components));
+            }
+
+            TextComponent[] snapshot = old.toArray(new TextComponent[old.size() + components.length]);
+            System.arraycopy(components, 0, snapshot, old.size(), components.length);
+
+            return Collections.unmodifiableList(Arrays.asList(snapshot));
+        });
+
+        this.modificationCount.incrementAndGet();
+
+        return first[0];
+    }
+
+    @Override
+    public List<TextComponent> getLocalizations(String key) {
+        List<TextComponent> components = this.componentMap.get(key);
+
+        if (components == null)
+            return Collections.emptyList();
+
+        return components;
+    }
+
+    @Override
+    public TextComponent getLocalization(String key) {
+        List<TextComponent> localizations = this.componentMap.get(key);
+
+        if (localizations == null)
+            return null;
+
+        return localizations.get(localizations.size() - 1);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return this.modificationCount.get();
+    }
+
+}
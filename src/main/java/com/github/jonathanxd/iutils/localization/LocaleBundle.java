@@ -0,0 +1,506 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.localization;
+
+import com.github.jonathanxd.iutils.exception.LocaleLoadException;
+import com.github.jonathanxd.iutils.text.ArgsAppliedText;
+import com.github.jonathanxd.iutils.text.CapitalizeComponent;
+import com.github.jonathanxd.iutils.text.Color;
+import com.github.jonathanxd.iutils.text.DecapitalizeComponent;
+import com.github.jonathanxd.iutils.text.LocalizableComponent;
+import com.github.jonathanxd.iutils.text.StringComponent;
+import com.github.jonathanxd.iutils.text.Style;
+import com.github.jonathanxd.iutils.text.Text;
+import com.github.jonathanxd.iutils.text.TextComponent;
+import com.github.jonathanxd.iutils.text.VariableComponent;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Precompiled binary bundle of localizations.
+ *
+ * A bundle is composed of a string table, a sorted key index and pre-parsed component trees. A
+ * bundle can be {@link #map(Path) memory-mapped}, and components are only materialized on first
+ * access of their key, so loading a bundle does not parse nor allocate the localizations.
+ *
+ * Bundles are written with {@link #write(Map, OutputStream)}, commonly from the result of another
+ * {@link LocaleLoader}, for example: {@code LocaleBundle.write(LocaleLoaders.langLoader().create(reader),
+ * out)}. {@link com.github.jonathanxd.iutils.text.MapLocalizedText} components cannot be written.
+ *
+ * Bundles are immutable and thread-safe.
+ *
+ * @see BundleLocalizationManager
+ * @see LocaleLoaders#bundleLoader()
+ */
+public final class LocaleBundle {
+
+    private static final int MAGIC = 0x4A574C42; // JWLB
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 6 * Integer.BYTES;
+
+    private static final byte STRING = 0;
+    private static final byte VARIABLE = 1;
+    private static final byte LOCALIZABLE = 2;
+    private static final byte TEXT = 3;
+    private static final byte CAPITALIZE = 4;
+    private static final byte DECAPITALIZE = 5;
+    private static final byte ARGS = 6;
+    private static final byte COLOR = 7;
+    private static final byte STYLE = 8;
+
+    private static final LocaleBundle EMPTY = LocaleBundle.of(LocaleBundle.toBuffer(Collections.emptyMap()));
+
+    private final ByteBuffer buffer;
+    private final int stringCount;
+    private final int keyCount;
+    private final int keyIndexOffset;
+    private final String[] strings;
+    private final AtomicReferenceArray<List<TextComponent>> localizations;
+
+    private LocaleBundle(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+            throw new LocaleLoadException("Invalid locale bundle.");
+
+        if (buffer.getInt(Integer.BYTES) != VERSION)
+            throw new LocaleLoadException("Unsupported locale bundle version: " + buffer.getInt(Integer.BYTES) + ".");
+
+        this.buffer = buffer;
+        this.stringCount = buffer.getInt(2 * Integer.BYTES);
+        this.keyCount = buffer.getInt(3 * Integer.BYTES);
+        this.keyIndexOffset = buffer.getInt(5 * Integer.BYTES);
+        this.strings = new String[this.stringCount];
+        this.localizations = new AtomicReferenceArray<>(this.keyCount);
+    }
+
+    /**
+     * Gets an empty bundle.
+     *
+     * @return Empty bundle.
+     */
+    public static LocaleBundle empty() {
+        return LocaleBundle.EMPTY;
+    }
+
+    /**
+     * Creates a bundle backed by {@code buffer}, {@code buffer} must not be modified after that.
+     *
+     * @param buffer Buffer with bundle data, starting at index {@code 0}.
+     * @return Bundle backed by {@code buffer}.
+     * @throws LocaleLoadException If {@code buffer} is not a valid bundle.
+     */
+    public static LocaleBundle of(@NotNull ByteBuffer buffer) {
+        return new LocaleBundle(buffer.duplicate());
+    }
+
+    /**
+     * Creates a heap bundle with {@code localizations}.
+     *
+     * @param localizations Localizations of the bundle.
+     * @return Bundle with {@code localizations}.
+     * @throws IllegalArgumentException If a component cannot be written to bundle.
+     */
+    public static LocaleBundle of(@NotNull Map<String, ? extends List<? extends TextComponent>> localizations) {
+        return new LocaleBundle(LocaleBundle.toBuffer(localizations));
+    }
+
+    /**
+     * Memory-maps bundle at {@code path}.
+     *
+     * @param path Path to bundle file.
+     * @return Bundle backed by mapped file.
+     * @throws IOException If file cannot be mapped.
+     */
+    public static LocaleBundle map(@NotNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new LocaleBundle(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads bundle from {@code in} into heap.
+     *
+     * @param in Input stream to read bundle from.
+     * @return Bundle read from {@code in}.
+     * @throws IOException If bundle cannot be read.
+     */
+    public static LocaleBundle read(@NotNull InputStream in) throws IOException {
+        return new LocaleBundle(ByteBuffer.wrap(in.readAllBytes()));
+    }
+
+    /**
+     * Writes {@code localizations} as a bundle to {@code out}.
+     *
+     * @param localizations Localizations to write.
+     * @param out           Output to write bundle.
+     * @throws IOException              If bundle cannot be written to {@code out}.
+     * @throws IllegalArgumentException If a component cannot be written to bundle.
+     */
+    public static void write(@NotNull Map<String, ? extends List<? extends TextComponent>> localizations,
+                             @NotNull OutputStream out) throws IOException {
+        ByteBuffer buffer = LocaleBundle.toBuffer(localizations);
+        out.write(buffer.array(), buffer.arrayOffset(), buffer.remaining());
+    }
+
+    private static ByteBuffer toBuffer(Map<String, ? extends List<? extends TextComponent>> localizations) {
+        try {
+            Map<String, Integer> strings = new LinkedHashMap<>();
+            Map<String, List<? extends TextComponent>> sorted = new TreeMap<>(localizations);
+            ByteArrayOutputStream componentsBytes = new ByteArrayOutputStream();
+            DataOutputStream components = new DataOutputStream(componentsBytes);
+            int[] keys = new int[sorted.size()];
+            int[] offsets = new int[sorted.size()];
+            int index = 0;
+
+            for (Map.Entry<String, List<? extends TextComponent>> entry : sorted.entrySet()) {
+                keys[index] = LocaleBundle.stringIndex(strings, entry.getKey());
+                offsets[index] = components.size();
+
+                components.writeInt(entry.getValue().size());
+
+                for (TextComponent component : entry.getValue()) {
+                    LocaleBundle.writeComponent(component, strings, components);
+                }
+
+                ++index;
+            }
+
+            ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+            DataOutputStream stringData = new DataOutputStream(stringBytes);
+            int[] stringOffsets = new int[strings.size()];
+            int stringsOffset = HEADER_SIZE + strings.size() * Integer.BYTES;
+            index = 0;
+
+            for (String string : strings.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                stringOffsets[index++] = stringsOffset + stringData.size();
+                stringData.writeInt(bytes.length);
+                stringData.write(bytes);
+            }
+
+            int keyIndexOffset = stringsOffset + stringData.size();
+            int componentsOffset = keyIndexOffset + keys.length * 2 * Integer.BYTES;
+            ByteBuffer buffer = ByteBuffer.allocate(componentsOffset + components.size());
+
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(strings.size());
+            buffer.putInt(keys.length);
+            buffer.putInt(stringsOffset);
+            buffer.putInt(keyIndexOffset);
+
+            for (int stringOffset : stringOffsets) {
+                buffer.putInt(stringOffset);
+            }
+
+            buffer.put(stringBytes.toByteArray());
+
+            for (int i = 0; i < keys.length; i++) {
+                buffer.putInt(keys[i]);
+                buffer.putInt(componentsOffset + offsets[i]);
+            }
+
+            buffer.put(componentsBytes.toByteArray());
+            buffer.flip();
+
+            return buffer;
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int stringIndex(Map<String, Integer> strings, String string) {
+        return strings.computeIfAbsent(string, s -> strings.size());
+    }
+
+    private static void writeComponent(TextComponent component,
+                                       Map<String, Integer> strings,
+                                       DataOutputStream out) throws IOException {
+        if (component instanceof StringComponent) {
+            out.writeByte(STRING);
+            out.writeInt(LocaleBundle.stringIndex(strings, ((StringComponent) component).getText()));
+        } else if (component instanceof VariableComponent) {
+            out.writeByte(VARIABLE);
+            out.writeInt(LocaleBundle.stringIndex(strings, ((VariableComponent) component).getVariable()));
+        } else if (component instanceof LocalizableComponent) {
+            LocalizableComponent localizableComponent = (LocalizableComponent) component;
+            String locale = localizableComponent.getLocale();
+
+            out.writeByte(LOCALIZABLE);
+            out.writeInt(locale == null ? -1 : LocaleBundle.stringIndex(strings, locale));
+            out.writeInt(LocaleBundle.stringIndex(strings, localizableComponent.getLocalization()));
+        } else if (component instanceof Text) {
+            List<TextComponent> components = ((Text) component).getComponents();
+
+            out.writeByte(TEXT);
+            out.writeInt(components.size());
+
+            for (TextComponent textComponent : components) {
+                LocaleBundle.writeComponent(textComponent, strings, out);
+            }
+        } else if (component instanceof CapitalizeComponent) {
+            out.writeByte(CAPITALIZE);
+            LocaleBundle.writeComponent(((CapitalizeComponent) component).getTextComponent(), strings, out);
+        } else if (component instanceof DecapitalizeComponent) {
+            out.writeByte(DECAPITALIZE);
+            LocaleBundle.writeComponent(((DecapitalizeComponent) component).getTextComponent(), strings, out);
+        } else if (component instanceof ArgsAppliedText) {
+            ArgsAppliedText argsAppliedText = (ArgsAppliedText) component;
+
+            out.writeByte(ARGS);
+            out.writeInt(argsAppliedText.getArgs().size());
+
+            for (Map.Entry<String, TextComponent> entry : argsAppliedText.getArgs().entrySet()) {
+                out.writeInt(LocaleBundle.stringIndex(strings, entry.getKey()));
+                LocaleBundle.writeComponent(entry.getValue(), strings, out);
+            }
+
+            LocaleBundle.writeComponent(argsAppliedText.getComponent(), strings, out);
+        } else if (component instanceof Color) {
+            Color color = (Color) component;
+
+            out.writeByte(COLOR);
+            out.writeInt(LocaleBundle.stringIndex(strings, color.getName()));
+            out.writeByte(color.getR());
+            out.writeByte(color.getG());
+            out.writeByte(color.getB());
+            out.writeFloat(color.getA());
+        } else if (component instanceof Style) {
+            Style style = (Style) component;
+
+            out.writeByte(STYLE);
+            out.writeByte((style.isObfuscated() ? 1 : 0)
+                    | (style.isBold() ? 1 << 1 : 0)
+                    | (style.isStrikeThrough() ? 1 << 2 : 0)
+                    | (style.isUnderline() ? 1 << 3 : 0)
+                    | (style.isItalic() ? 1 << 4 : 0));
+        } else {
+            throw new IllegalArgumentException("Cannot write component '" + component + "' to bundle!");
+        }
+    }
+
+    /**
+     * Gets the amount of keys in this bundle.
+     *
+     * @return Amount of keys in this bundle.
+     */
+    public int size() {
+        return this.keyCount;
+    }
+
+    /**
+     * Gets the key at {@code index}, keys are sorted.
+     *
+     * @param index Index of key.
+     * @return Key at {@code index}.
+     */
+    public String getKey(int index) {
+        if (index < 0 || index >= this.keyCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.keyCount);
+
+        return this.string(this.buffer.getInt(this.keyIndexOffset + index * 2 * Integer.BYTES));
+    }
+
+    /**
+     * Returns true if this bundle has localizations for {@code key}.
+     *
+     * @param key Key to check.
+     * @return True if this bundle has localizations for {@code key}.
+     */
+    public boolean containsKey(String key) {
+        return this.indexOf(key) >= 0;
+    }
+
+    /**
+     * Gets localizations of {@code key}, materializing them on first access.
+     *
+     * @param key Key of localizations.
+     * @return Unmodifiable list of localizations of {@code key}, or empty list if this bundle does
+     * not have {@code key}.
+     */
+    public List<TextComponent> getLocalizations(String key) {
+        int index = this.indexOf(key);
+
+        if (index < 0)
+            return Collections.emptyList();
+
+        return this.getLocalizations(index);
+    }
+
+    /**
+     * Gets localizations of key at {@code index}, materializing them on first access.
+     *
+     * @param index Index of key.
+     * @return Unmodifiable list of localizations of key at {@code index}.
+     */
+    public List<TextComponent> getLocalizations(int index) {
+        List<TextComponent> localizations = this.localizations.get(index);
+
+        if (localizations == null) {
+            int[] position = {this.buffer.getInt(this.keyIndexOffset + index * 2 * Integer.BYTES + Integer.BYTES)};
+            int size = this.readInt(position);
+            List<TextComponent> components = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                components.add(this.readComponent(position));
+            }
+
+            localizations = Collections.unmodifiableList(components);
+
+            if (!this.localizations.compareAndSet(index, null, localizations))
+                localizations = this.localizations.get(index);
+        }
+
+        return localizations;
+    }
+
+    private int indexOf(String key) {
+        int low = 0;
+        int high = this.keyCount - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = this.getKey(mid).compareTo(key);
+
+            if (cmp < 0)
+                low = mid + 1;
+            else if (cmp > 0)
+                high = mid - 1;
+            else
+                return mid;
+        }
+
+        return -(low + 1);
+    }
+
+    private String string(int index) {
+        String string = this.strings[index];
+
+        if (string == null) {
+            int offset = this.buffer.getInt(HEADER_SIZE + index * Integer.BYTES);
+            byte[] bytes = new byte[this.buffer.getInt(offset)];
+            this.buffer.get(offset + Integer.BYTES, bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            this.strings[index] = string;
+        }
+
+        return string;
+    }
+
+    private int readInt(int[] position) {
+        int value = this.buffer.getInt(position[0]);
+        position[0] += Integer.BYTES;
+        return value;
+    }
+
+    private int readUnsignedByte(int[] position) {
+        return this.buffer.get(position[0]++) & 0xFF;
+    }
+
+    private TextComponent readComponent(int[] position) {
+        int tag = this.readUnsignedByte(position);
+
+        switch (tag) {
+            case STRING:
+                return StringComponent.of(this.string(this.readInt(position)));
+            case VARIABLE:
+                return VariableComponent.of(this.string(this.readInt(position)));
+            case LOCALIZABLE: {
+                int locale = this.readInt(position);
+                String localization = this.string(this.readInt(position));
+                return LocalizableComponent.of(locale == -1 ? null : this.string(locale), localization);
+            }
+            case TEXT: {
+                TextComponent[] components = new TextComponent[this.readInt(position)];
+
+                for (int i = 0; i < components.length; i++) {
+                    components[i] = this.readComponent(position);
+                }
+
+                // Immutable lists are not copied by Text
+                return Text.ofUncompressed(List.of(components));
+            }
+            case CAPITALIZE:
+                return CapitalizeComponent.of(this.readComponent(position));
+            case DECAPITALIZE:
+                return DecapitalizeComponent.of(this.readComponent(position));
+            case ARGS: {
+                Map.Entry<String, TextComponent>[] args = newEntryArray(this.readInt(position));
+
+                for (int i = 0; i < args.length; i++) {
+                    String name = this.string(this.readInt(position));
+                    args[i] = Map.entry(name, this.readComponent(position));
+                }
+
+                // Immutable maps are not copied by ArgsAppliedText
+                return ArgsAppliedText.of(this.readComponent(position), Map.ofEntries(args));
+            }
+            case COLOR: {
+                String name = this.string(this.readInt(position));
+                int r = this.readUnsignedByte(position);
+                int g = this.readUnsignedByte(position);
+                int b = this.readUnsignedByte(position);
+                float a = Float.intBitsToFloat(this.readInt(position));
+                return Color.createColor(name, r, g, b, a);
+            }
+            case STYLE: {
+                int flags = this.readUnsignedByte(position);
+                return Style.createStyle((flags & 1) != 0,
+                        (flags & (1 << 1)) != 0,
+                        (flags & (1 << 2)) != 0,
+                        (flags & (1 << 3)) != 0,
+                        (flags & (1 << 4)) != 0);
+            }
+            default:
+                throw new LocaleLoadException("Invalid component tag '" + tag + "' in locale bundle.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map.Entry<String, TextComponent>[] newEntryArray(int size) {
+        return (Map.Entry<String, TextComponent>[]) new Map.Entry<?, ?>[size];
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.localization;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Watches locale files of a directory and reloads localizations of watched locales when their
+ * files changes.
+ *
+ * Watched locales must be backed by a {@link BundleLocalizationManager}. Changed files are parsed
+ * in the {@link Executor executor} into a new immutable {@link LocaleBundle}, which is published
+ * with a single {@link BundleLocalizationManager#setBundle(LocaleBundle) swap}. Localizers reading
+ * the locale never block and always see either the old or the new localizations of a key, never a
+ * partially applied update, and replaced keys are not appended to old localizations. If the file
+ * fails to parse, old localizations are kept.
+ *
+ * Locale files follow the name template: {@code baseName_localeName.extension}, where the extension
+ * is the {@link LocaleLoader#extension() extension of the loader}. Files should be replaced
+ * atomically (written to a temporary file and then moved), otherwise a partially written file may
+ * be read.
+ */
+public final class LocaleBundleWatcher implements Closeable {
+    private final Path directory;
+    private final String baseName;
+    private final LocaleLoader loader;
+    private final Executor executor;
+    private final Consumer<? super LocaleLoadResult> listener;
+    private final Map<Path, Watched> watched = new ConcurrentHashMap<>();
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * Creates a watcher of locale files in {@code directory}, files are reloaded in the {@link
+     * ForkJoinPool#commonPool() common pool}.
+     *
+     * @param directory Directory of locale files.
+     * @param baseName  Base name of locale files (omitted if null).
+     * @param loader    Loader of locale files.
+     * @throws IOException If {@code directory} cannot be watched.
+     */
+    public LocaleBundleWatcher(@NotNull Path directory,
+                               @Nullable String baseName,
+                               @NotNull LocaleLoader loader) throws IOException {
+        this(directory, baseName, loader, ForkJoinPool.commonPool(), result -> {
+        });
+    }
+
+    /**
+     * Creates a watcher of locale files in {@code directory}.
+     *
+     * @param directory Directory of locale files.
+     * @param baseName  Base name of locale files (omitted if null).
+     * @param loader    Loader of locale files.
+     * @param executor  Executor to reload files.
+     * @param listener  Listener notified with the result of each reload, from the thread which
+     *                  reloaded the file. If {@code executor} rejects a reload, the listener is
+     *                  notified with a failed result from the watching thread.
+     * @throws IOException If {@code directory} cannot be watched.
+     */
+    public LocaleBundleWatcher(@NotNull Path directory,
+                               @Nullable String baseName,
+                               @NotNull LocaleLoader loader,
+                               @NotNull Executor executor,
+                               @NotNull Consumer<? super LocaleLoadResult> listener) throws IOException {
+        this.directory = Objects.requireNonNull(directory, "Directory cannot be null.");
+        this.baseName = baseName;
+        this.loader = Objects.requireNonNull(loader, "Loader cannot be null.");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null.");
+        this.listener = Objects.requireNonNull(listener, "Listener cannot be null.");
+        this.watchService = directory.getFileSystem().newWatchService();
+
+        directory.register(this.watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+        this.thread = new Thread(this::watch, "LocaleBundleWatcher[" + directory + "]");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Gets the path of the file of {@code locale}.
+     *
+     * @param locale Locale.
+     * @return Path of the file of {@code locale}.
+     */
+    @NotNull
+    public Path getPath(@NotNull Locale locale) {
+        String name = (this.baseName == null ? "" : this.baseName + "_") + locale.getName() + "." + this.loader.extension();
+        return this.directory.resolve(name);
+    }
+
+    /**
+     * Loads localizations of {@code locale} from its file and starts watching the file for changes.
+     *
+     * @param locale Locale to watch, must be backed by a {@link BundleLocalizationManager}.
+     * @return Result of initial load.
+     * @throws IllegalArgumentException If {@code locale} is not backed by a {@link
+     *                                  BundleLocalizationManager}.
+     */
+    @NotNull
+    public LocaleLoadResult watch(@NotNull Locale locale) {
+        LocalizationManager manager = locale.getLocalizationManager();
+
+        if (!(manager instanceof BundleLocalizationManager))
+            throw new IllegalArgumentException("Locale '" + locale.getName() + "' is not backed by a BundleLocalizationManager.");
+
+        Path path = this.getPath(locale);
+        Watched watched = new Watched(locale, (BundleLocalizationManager) manager, path);
+        this.watched.put(path.getFileName(), watched);
+
+        return this.reload(watched);
+    }
+
+    /**
+     * Stops watching the file of {@code locale}, localizations loaded are kept.
+     *
+     * @param locale Locale to stop watching.
+     * @return Whether {@code locale} was being watched.
+     */
+    public boolean unwatch(@NotNull Locale locale) {
+        Path fileName = this.getPath(locale).getFileName();
+        Watched watched = this.watched.get(fileName);
+
+        return watched != null && watched.locale == locale && this.watched.remove(fileName, watched);
+    }
+
+    /**
+     * Reloads localizations of watched {@code locale} from its file in the calling thread.
+     *
+     * @param locale Watched locale to reload.
+     * @return Result of reload.
+     * @throws IllegalArgumentException If {@code locale} is not being watched.
+     */
+    @NotNull
+    public LocaleLoadResult reload(@NotNull Locale locale) {
+        Watched watched = this.watched.get(this.getPath(locale).getFileName());
+
+        if (watched == null || watched.locale != locale)
+            throw new IllegalArgumentException("Locale '" + locale.getName() + "' is not being watched.");
+
+        return this.reload(watched);
+    }
+
+    /**
+     * Stops watching files. Reloads already scheduled may still complete.
+     *
+     * @throws IOException If watch service fails to close.
+     */
+    @Override
+    public void close() throws IOException {
+        this.watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = this.watchService.take();
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (!(event.context() instanceof Path))
+                        continue;
+
+                    Watched watched = this.watched.get((Path) event.context());
+
+                    // Events of the same file are coalesced while a reload is pending
+                    if (watched != null && watched.pending.compareAndSet(false, true)) {
+                        try {
+                            this.executor.execute(() -> {
+                                watched.pending.set(false);
+                                this.listener.accept(this.reload(watched));
+                            });
+                        } catch (RejectedExecutionException e) {
+                            // The next event of the file schedules the reload again
+                            watched.pending.set(false);
+                            this.listener.accept(new LocaleLoadResult(watched.locale, 0, e));
+                        }
+                    }
+                }
+
+                if (!key.reset())
+                    break;
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+        }
+    }
+
+    private LocaleLoadResult reload(Watched watched) {
+        long start = System.nanoTime();
+
+        // Reloads of the same locale are serialized, so an older file never replaces a newer one
+        synchronized (watched) {
+            try {
+                watched.manager.setBundle(this.read(watched.path));
+            } catch (Exception e) {
+                return new LocaleLoadResult(watched.locale, System.nanoTime() - start, e);
+            }
+        }
+
+        return new LocaleLoadResult(watched.locale, System.nanoTime() - start, null);
+    }
+
+    private LocaleBundle read(Path path) throws Exception {
+        // Bundles are read into heap, a mapped file could change while being read
+        if (this.loader == LocaleLoaders.bundleLoader()) {
+            try (InputStream in = Files.newInputStream(path)) {
+                return LocaleBundle.read(in);
+            }
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return LocaleBundle.of(this.loader.create(reader));
+        }
+    }
+
+    private static final class Watched {
+        final Locale locale;
+        final BundleLocalizationManager manager;
+        final Path path;
+        final AtomicBoolean pending = new AtomicBoolean();
+
+        Watched(Locale locale, BundleLocalizationManager manager, Path path) {
+            this.locale = locale;
+            this.manager = manager;
+            this.path = path;
+        }
+    }
+}
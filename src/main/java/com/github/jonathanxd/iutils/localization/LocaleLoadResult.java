@@ -0,0 +1,108 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.localization;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Result of loading a locale in bulk.
+ *
+ * @see LocaleLoader#loadAllFromResource(java.util.Collection, LocaleManager, java.nio.file.Path,
+ * String, ClassLoader, java.util.concurrent.Executor)
+ */
+public final class LocaleLoadResult {
+    private final Locale locale;
+    private final long time;
+    private final Throwable exception;
+
+    LocaleLoadResult(@NotNull Locale locale, long time, @Nullable Throwable exception) {
+        this.locale = locale;
+        this.time = time;
+        this.exception = exception;
+    }
+
+    /**
+     * Gets the loaded locale.
+     *
+     * @return Loaded locale.
+     */
+    @NotNull
+    public Locale getLocale() {
+        return this.locale;
+    }
+
+    /**
+     * Gets the time taken to load the locale, in nanoseconds.
+     *
+     * @return Time taken to load the locale, in nanoseconds.
+     */
+    public long getTimeNanos() {
+        return this.time;
+    }
+
+    /**
+     * Gets the time taken to load the locale.
+     *
+     * @return Time taken to load the locale.
+     */
+    @NotNull
+    public Duration getTime() {
+        return Duration.ofNanos(this.time);
+    }
+
+    /**
+     * Returns whether the locale was loaded and registered successfully.
+     *
+     * @return Whether the locale was loaded and registered successfully.
+     */
+    public boolean isSuccess() {
+        return this.exception == null;
+    }
+
+    /**
+     * Gets the exception thrown while loading the locale.
+     *
+     * @return Exception thrown while loading the locale, or {@code null} if locale was loaded
+     * successfully.
+     */
+    @Nullable
+    public Throwable getException() {
+        return this.exception;
+    }
+
+    @Override
+    public String toString() {
+        return "LocaleLoadResult[locale=" + this.locale.getName()
+                + ", time=" + this.getTime()
+                + (this.exception == null ? "" : ", exception=" + this.exception)
+                + "]";
+    }
+}
@@ -38,8 +38,17 @@ import java.io.InputStreamReader;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -104,13 +113,157 @@ public interface LocaleLoader {
         if (resource == null)
             throw new LocaleLoadException("Resource cannot be found: '" + rPath.toString() + "'");
 
+        this.loadFromUrl(locale, resource);
+    }
+
+    /**
+     * Loads localizations of all {@code locales} concurrently in {@link ForkJoinPool#commonPool()
+     * common pool} and registers them in {@code localeManager}.
+     *
+     * @param locales       Locales to load.
+     * @param localeManager Manager to register loaded locales.
+     * @param path          Path to resources (omitted if null).
+     * @param baseName      Base resource name (omitted if null).
+     * @param classLoader   Classloader with resources.
+     * @return Results of each locale, in completion order.
+     * @see #loadAllFromResource(Collection, LocaleManager, Path, String, ClassLoader, Executor)
+     */
+    default List<LocaleLoadResult> loadAllFromResource(@NotNull Collection<? extends Locale> locales,
+                                                       @NotNull LocaleManager localeManager,
+                                                       @Nullable Path path,
+                                                       @Nullable String baseName,
+                                                       @NotNull ClassLoader classLoader) throws LocaleLoadException {
+        return this.loadAllFromResource(locales, localeManager, path, baseName, classLoader, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads localizations of all {@code locales} concurrently in {@code executor} and registers
+     * them in {@code localeManager}.
+     *
+     * Each locale is loaded as specified in {@link #loadFromResource(Locale, Path, String,
+     * ClassLoader)}, but into a staging manager instead of the {@link
+     * Locale#getLocalizationManager() manager of the locale}. Once the whole resource was loaded,
+     * localizations are published into the manager of the locale and the locale is {@link
+     * LocaleManager#registerLocale(Locale) registered} in {@code localeManager}, both in the calling
+     * thread. Managers of locales and {@code localeManager} do not need to be thread-safe, and a
+     * locale that fails to load is left unchanged and is not registered, the failure is reported in
+     * its result.
+     *
+     * Locales repeated in {@code locales} are loaded once. Locales rejected by {@code executor} are
+     * reported as failures, other locales are still loaded.
+     *
+     * @param locales       Locales to load.
+     * @param localeManager Manager to register loaded locales.
+     * @param path          Path to resources (omitted if null).
+     * @param baseName      Base resource name (omitted if null).
+     * @param classLoader   Classloader with resources.
+     * @param executor      Executor to load locales.
+     * @return Results of each locale, in completion order.
+     * @throws LocaleLoadException If calling thread is interrupted while waiting locales to load.
+     */
+    default List<LocaleLoadResult> loadAllFromResource(@NotNull Collection<? extends Locale> locales,
+                                                       @NotNull LocaleManager localeManager,
+                                                       @Nullable Path path,
+                                                       @Nullable String baseName,
+                                                       @NotNull ClassLoader classLoader,
+                                                       @NotNull Executor executor) throws LocaleLoadException {
+        CompletionService<LocaleLoadResult> completionService = new ExecutorCompletionService<>(executor);
+        Map<Locale, StagedLocalizationManager> staged = new IdentityHashMap<>();
+        List<LocaleLoadResult> results = new ArrayList<>(locales.size());
+        int submitted = 0;
+
+        for (Locale locale : locales) {
+            if (staged.containsKey(locale))
+                continue;
+
+            StagedLocalizationManager manager = new StagedLocalizationManager();
+            Locale staging = new Locale() {
+                @Override
+                public String getName() {
+                    return locale.getName();
+                }
+
+                @Override
+                public LocalizationManager getLocalizationManager() {
+                    return manager;
+                }
+            };
+
+            staged.put(locale, manager);
+
+            try {
+                completionService.submit(() -> {
+                    long start = System.nanoTime();
+
+                    try {
+                        this.loadFromResource(staging, path, baseName, classLoader);
+                    } catch (Exception e) {
+                        return new LocaleLoadResult(locale, System.nanoTime() - start, e);
+                    }
+
+                    return new LocaleLoadResult(locale, System.nanoTime() - start, null);
+                });
+
+                ++submitted;
+            } catch (RejectedExecutionException e) {
+                results.add(new LocaleLoadResult(locale, 0, e));
+            }
+        }
+
+        try {
+            for (int i = 0; i < submitted; i++) {
+                LocaleLoadResult result = completionService.take().get();
+                Locale locale = result.getLocale();
+
+                if (result.isSuccess()) {
+                    staged.get(locale).publish(locale.getLocalizationManager());
+                    localeManager.registerLocale(locale);
+                }
+
+                results.add(result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LocaleLoadException(e);
+        } catch (ExecutionException e) {
+            throw new LocaleLoadException(e.getCause());
+        }
+
+        return results;
+    }
+
+    /**
+     * Loads {@code locale} localizations from {@code resource}.
+     *
+     * @param locale   Locale to load localizations.
+     * @param resource Resource to load localizations from.
+     */
+    default void loadFromUrl(@NotNull Locale locale,
+                             @NotNull URL resource) throws LocaleLoadException {
         try (BufferedReader stream = new BufferedReader(new InputStreamReader(resource.openStream(), "UTF-8"))) {
-            this.create(stream).forEach((key, comps) -> locale.getLocalizationManager().registerLocalizations(key, comps));
+            this.load(locale, stream);
+        } catch (LocaleLoadException e) {
+            throw e;
         } catch (Exception e) {
             throw new LocaleLoadException(e);
         }
     }
 
+    /**
+     * Loads {@code locale} localizations from {@code reader}.
+     *
+     * Loaders which are able to parse the input incrementally may register localizations while
+     * reading, without holding the entire input in memory.
+     *
+     * @param locale Locale to load localizations.
+     * @param reader Reader of localizations.
+     */
+    default void load(@NotNull Locale locale,
+                      @NotNull BufferedReader reader) throws Exception {
+        LocalizationManager localizationManager = locale.getLocalizationManager();
+        this.create(reader).forEach(localizationManager::registerLocalizations);
+    }
+
     /**
      * Creates localization map from {@code reader}.
      *
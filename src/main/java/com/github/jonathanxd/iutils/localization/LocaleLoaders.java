@@ -27,20 +27,51 @@
  */
 package com.github.jonathanxd.iutils.localization;
 
+import com.github.jonathanxd.iutils.exception.LocaleLoadException;
 import com.github.jonathanxd.iutils.string.StringObjHelper;
 import com.github.jonathanxd.iutils.text.TextComponent;
 import com.github.jonathanxd.iutils.text.TextUtil;
 
 import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
 
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 public class LocaleLoaders {
 
     private static final LocaleLoader LANG_LOADER = new LocaleLoader() {
+        @Override
+        public void load(@NotNull Locale locale, @NotNull BufferedReader reader) throws Exception {
+            LocalizationManager localizationManager = locale.getLocalizationManager();
+            // Registrations cannot be undone, so repeated keys are resolved before registering
+            Map<String, TextComponent> localizations = new LinkedHashMap<>();
+
+            StringObjHelper.parsePropertyMap(reader, (key, value) -> localizations.put(key, TextUtil.parse(value)));
+
+            localizations.forEach(localizationManager::registerLocalization);
+        }
+
+        @Override
+        public Map<String, List<TextComponent>> create(BufferedReader reader) throws Exception {
+            Map<String, List<TextComponent>> components = new HashMap<>();
+
+            StringObjHelper.parsePropertyMap(reader, (key, value) -> {
+                List<TextComponent> list = new ArrayList<>(1);
+                list.add(TextUtil.parse(value));
+                components.put(key, list);
+            });
+
+            return components;
+        }
+
         @Override
         public Map<String, List<TextComponent>> create(String string) {
             Map<String, List<TextComponent>> components = new HashMap<>();
@@ -73,6 +104,47 @@ public class LocaleLoaders {
         }
     };
 
+    private static final LocaleLoader BUNDLE_LOADER = new LocaleLoader() {
+        @Override
+        public void loadFromUrl(@NotNull Locale locale, @NotNull URL resource) throws LocaleLoadException {
+            LocaleBundle bundle;
+
+            try {
+                if ("file".equals(resource.getProtocol())) {
+                    bundle = LocaleBundle.map(Paths.get(resource.toURI()));
+                } else {
+                    try (InputStream stream = resource.openStream()) {
+                        bundle = LocaleBundle.read(stream);
+                    }
+                }
+            } catch (Exception e) {
+                throw new LocaleLoadException(e);
+            }
+
+            LocalizationManager manager = locale.getLocalizationManager();
+
+            if (manager instanceof BundleLocalizationManager) {
+                ((BundleLocalizationManager) manager).setBundle(bundle);
+            } else if (manager instanceof StagedLocalizationManager) {
+                ((StagedLocalizationManager) manager).setBundle(bundle);
+            } else {
+                for (int i = 0; i < bundle.size(); i++) {
+                    manager.registerLocalizations(bundle.getKey(i), bundle.getLocalizations(i));
+                }
+            }
+        }
+
+        @Override
+        public Map<String, List<TextComponent>> create(String string) {
+            throw new UnsupportedOperationException("Locale bundles are binary, use LocaleBundle.read instead.");
+        }
+
+        @Override
+        public String extension() {
+            return "langb";
+        }
+    };
+
     /**
      * Returns {@code .lang} locale loader. Lang format is:
      *
@@ -83,6 +155,10 @@ public class LocaleLoaders {
      * }
      * </pre>
      *
+     * Localizations loaded through {@link LocaleLoader#load(Locale, BufferedReader)} are parsed
+     * line by line, so the whole input text is never held in memory. A key repeated in the input
+     * keeps its last value, as in {@link LocaleLoader#create(BufferedReader)}.
+     *
      * @return Simple lang locale loader
      */
     @Contract(pure = true)
@@ -114,4 +190,20 @@ public class LocaleLoaders {
     public static LocaleLoader langMapLoader() {
         return LANG_MAP_LOADER;
     }
+
+    /**
+     * Returns {@code .langb} locale loader, which loads precompiled {@link LocaleBundle locale
+     * bundles}.
+     *
+     * Bundles in the file system are memory-mapped. When the {@link Locale#getLocalizationManager()
+     * localization manager} is a {@link BundleLocalizationManager}, the bundle is only attached to
+     * it and localizations are materialized on demand, otherwise all localizations are registered.
+     *
+     * @return Locale bundle loader.
+     * @see LocaleBundle#write(Map, java.io.OutputStream)
+     */
+    @Contract(pure = true)
+    public static LocaleLoader bundleLoader() {
+        return BUNDLE_LOADER;
+    }
 }
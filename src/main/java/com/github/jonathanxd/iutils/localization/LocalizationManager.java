@@ -79,6 +79,19 @@ public interface LocalizationManager {
      */
     List<TextComponent> getLocalizations(String key);
 
+    /**
+     * Gets the modification count of this manager. The modification count changes every time a
+     * localization is registered, allowing localizers to cache resolved localizations.
+     *
+     * Managers which does not track modifications returns {@code -1}, and localizations resolved
+     * from them are never cached.
+     *
+     * @return Modification count of this manager, or {@code -1} if modifications are not tracked.
+     */
+    default long getModificationCount() {
+        return -1;
+    }
+
     /**
      * Gets the localization registered for {@code key}, never returns null.
      *
@@ -39,12 +39,14 @@ import java.util.Map;
 
 public final class MapLocalizationManager implements LocalizationManager {
     private final Map<String, List<TextComponent>> componentMap = new HashMap<>();
+    private volatile long modificationCount = 0;
 
     @Override
     public boolean registerLocalization(String key, TextComponent text) {
         boolean first = !this.componentMap.containsKey(key);
 
         this.componentMap.computeIfAbsent(key, k -> new ArrayList<>()).add(text);
+        ++this.modificationCount;
 
         return first;
     }
@@ -57,6 +59,7 @@ public final class MapLocalizationManager implements LocalizationManager {
         if (texts instanceof Collection<?>) {
             this.componentMap.computeIfAbsent(key, k -> new ArrayList<>())
                     .addAll((Collection<? extends TextComponent>) texts);
+            ++this.modificationCount;
         } else {
             for (TextComponent text : texts) {
                 this.registerLocalization(key, text);
@@ -82,6 +85,11 @@ public final class MapLocalizationManager implements LocalizationManager {
         return new ArrayList<>(components);
     }
 
+    @Override
+    public long getModificationCount() {
+        return this.modificationCount;
+    }
+
     @Override
     public TextComponent getLocalization(String key) {
         List<TextComponent> localizations = this.getLocalizations(key);
@@ -0,0 +1,116 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.localization;
+
+import com.github.jonathanxd.iutils.text.TextComponent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Localization manager which collects localizations loaded off the calling thread, to {@link
+ * #publish(LocalizationManager) publish} them later into the manager of the locale, only once they
+ * were all loaded.
+ */
+final class StagedLocalizationManager implements LocalizationManager {
+    private final Map<String, List<TextComponent>> localizations = new LinkedHashMap<>();
+    private LocaleBundle bundle;
+
+    /**
+     * Sets the bundle loaded into this manager, which replaces the bundle of a {@link
+     * BundleLocalizationManager} when published.
+     *
+     * @param bundle Loaded bundle.
+     */
+    void setBundle(LocaleBundle bundle) {
+        this.bundle = bundle;
+    }
+
+    /**
+     * Publishes collected localizations into {@code manager}.
+     *
+     * @param manager Manager to publish localizations.
+     */
+    void publish(LocalizationManager manager) {
+        LocaleBundle bundle = this.bundle;
+
+        if (bundle != null) {
+            if (manager instanceof BundleLocalizationManager) {
+                ((BundleLocalizationManager) manager).setBundle(bundle);
+            } else {
+                for (int i = 0; i < bundle.size(); i++) {
+                    manager.registerLocalizations(bundle.getKey(i), bundle.getLocalizations(i));
+                }
+            }
+        }
+
+        this.localizations.forEach(manager::registerLocalizations);
+    }
+
+    @Override
+    public boolean registerLocalization(String key, TextComponent text) {
+        return this.registerLocalizations(key, Collections.singletonList(text));
+    }
+
+    @Override
+    public boolean registerLocalizations(String key, Iterable<? extends TextComponent> texts) {
+        List<TextComponent> localizations = this.localizations.get(key);
+        boolean first = localizations == null;
+
+        if (first) {
+            localizations = new ArrayList<>();
+            this.localizations.put(key, localizations);
+        }
+
+        for (TextComponent text : texts) {
+            localizations.add(text);
+        }
+
+        return first;
+    }
+
+    @Override
+    public TextComponent getLocalization(String key) {
+        List<TextComponent> localizations = this.getLocalizations(key);
+
+        return localizations.isEmpty() ? null : localizations.get(localizations.size() - 1);
+    }
+
+    @Override
+    public List<TextComponent> getLocalizations(String key) {
+        List<TextComponent> localizations = this.localizations.get(key);
+
+        if (localizations == null)
+            return Collections.emptyList();
+
+        return Collections.unmodifiableList(localizations);
+    }
+}
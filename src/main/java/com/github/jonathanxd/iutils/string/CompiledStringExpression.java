@@ -0,0 +1,82 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.string;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * A {@link SimpleStringExpression} parsed once into a tree of operations.
+ *
+ * Method invocations and field accesses of the tree are linked to {@link
+ * java.lang.invoke.MethodHandle method handles} on first evaluation and cached per call site,
+ * keyed by receiver class and argument classes, so evaluating the same expression again does not
+ * parse the expression or lookup members again. Compiled expressions are immutable (except for
+ * their caches) and can be evaluated concurrently.
+ *
+ * @see SimpleStringExpression#compile(String)
+ */
+public final class CompiledStringExpression {
+    private final String expression;
+    private final SimpleStringExpression.Node root;
+
+    CompiledStringExpression(String expression, SimpleStringExpression.Node root) {
+        this.expression = expression;
+        this.root = root;
+    }
+
+    /**
+     * Gets the expression string.
+     *
+     * @return Expression string.
+     */
+    public String getExpression() {
+        return this.expression;
+    }
+
+    /**
+     * Evaluates this expression and returns the resulting object, same as {@link
+     * SimpleStringExpression#evaluateExpression(String, Map)}.
+     *
+     * @param variables Provided variables.
+     * @return Evaluated Object.
+     */
+    public Object evaluate(@NotNull Map<String, Object> variables) {
+        return this.root.evaluate(variables, null);
+    }
+
+    SimpleStringExpression.Node getRoot() {
+        return this.root;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledStringExpression[" + this.expression + "]";
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.string;
+
+import com.github.jonathanxd.iutils.exception.JStringApplyException;
+import com.github.jonathanxd.iutils.exception.RethrowException;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link JString} pattern parsed once into literal and variable segments.
+ *
+ * Evaluation of a template produces the same result as {@link JStringUtil#evaluate(String, Map)},
+ * but without matching the pattern again: literals and variables are appended in a single pass.
+ * Templates are immutable and can be evaluated concurrently.
+ *
+ * Supported variable forms are:
+ *
+ * <pre>
+ * {@code
+ * $name
+ * ${name}
+ * ${name.accessor}
+ * }
+ * </pre>
+ *
+ * Where {@code accessor} is {@link SimpleStringExpression#compile(String) compiled} and evaluated
+ * through {@link SimpleStringExpression}, unless the variable map contains the entire {@code
+ * name.accessor} key.
+ */
+public final class JStringTemplate {
+
+    private final String pattern;
+
+    /**
+     * Literal segments, literal {@code i} is appended before variable {@code i} and the last
+     * literal is appended after all variables.
+     */
+    private final String[] literals;
+    private final Variable[] variables;
+    private final int literalsLength;
+
+    private JStringTemplate(String pattern, String[] literals, Variable[] variables) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.variables = variables;
+
+        int literalsLength = 0;
+
+        for (String literal : literals) {
+            literalsLength += literal.length();
+        }
+
+        this.literalsLength = literalsLength;
+    }
+
+    /**
+     * Compiles {@code pattern} into a template.
+     *
+     * @param pattern Pattern to compile.
+     * @return Template of {@code pattern}.
+     */
+    @NotNull
+    public static JStringTemplate compile(@NotNull String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Variable> variables = new ArrayList<>();
+        int length = pattern.length();
+        int literalStart = 0;
+        int i = pattern.indexOf('$');
+
+        while (i != -1) {
+            int start = i;
+            int end = i + 1;
+            String name = null;
+            String var = null;
+            String access = null;
+
+            if (end < length && JStringTemplate.isWord(pattern.charAt(end))) {
+                while (end < length && JStringTemplate.isWord(pattern.charAt(end))) {
+                    ++end;
+                }
+
+                name = pattern.substring(start + 1, end);
+            } else {
+                // '${' var ('.' access)? '}', or a lone '$' if not closed
+                if (end < length && pattern.charAt(end) == '{') {
+                    int varEnd = end + 1;
+
+                    while (varEnd < length && pattern.charAt(varEnd) != '.' && pattern.charAt(varEnd) != '}') {
+                        ++varEnd;
+                    }
+
+                    if (varEnd > end + 1 && varEnd < length) {
+                        if (pattern.charAt(varEnd) == '}') {
+                            var = pattern.substring(end + 1, varEnd);
+                            end = varEnd + 1;
+                        } else {
+                            int accessStart = varEnd + 1;
+
+                            while (accessStart < length && JStringTemplate.isSpace(pattern.charAt(accessStart))) {
+                                ++accessStart;
+                            }
+
+                            int accessEnd = pattern.indexOf('}', accessStart);
+
+                            if (accessEnd != -1) {
+                                var = pattern.substring(end + 1, varEnd);
+                                access = pattern.substring(accessStart, accessEnd);
+                                end = accessEnd + 1;
+                            }
+                        }
+                    }
+                }
+            }
+
+            literals.add(pattern.substring(literalStart, start));
+            variables.add(new Variable(name, var, access, pattern.substring(start, end)));
+            literalStart = end;
+            i = pattern.indexOf('$', end);
+        }
+
+        literals.add(pattern.substring(literalStart));
+
+        return new JStringTemplate(pattern, literals.toArray(new String[0]), variables.toArray(new Variable[0]));
+    }
+
+    /**
+     * Gets the pattern of this template.
+     *
+     * @return Pattern of this template.
+     */
+    @NotNull
+    public String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Evaluates this template with {@code variables}.
+     *
+     * @param variables Variables.
+     * @return Evaluated string.
+     */
+    @NotNull
+    public String evaluate(@NotNull Map<String, Object> variables) {
+        if (this.variables.length == 0)
+            return this.literals[0];
+
+        StringBuilder sb = new StringBuilder(this.literalsLength + (this.variables.length << 3));
+        this.evaluate(variables, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Evaluates this template with {@code variables} and appends the result to {@code sb}.
+     *
+     * @param variables Variables.
+     * @param sb        Builder to append evaluated string.
+     */
+    public void evaluate(@NotNull Map<String, Object> variables, @NotNull StringBuilder sb) {
+        try {
+            this.evaluate(variables, (Appendable) sb);
+        } catch (IOException e) {
+            throw new RethrowException(e);
+        }
+    }
+
+    /**
+     * Evaluates this template with {@code variables} and appends the result to {@code out}.
+     *
+     * @param variables Variables.
+     * @param out       Appendable to append evaluated string.
+     * @throws IOException If {@code out} fails to append.
+     */
+    public void evaluate(@NotNull Map<String, Object> variables, @NotNull Appendable out) throws IOException {
+        for (int i = 0; i < this.variables.length; i++) {
+            out.append(this.literals[i]);
+            out.append(this.variables[i].evaluate(this.pattern, variables));
+        }
+
+        out.append(this.literals[this.variables.length]);
+    }
+
+    @Override
+    public String toString() {
+        return "JStringTemplate[" + this.pattern + "]";
+    }
+
+    /**
+     * Same as regex {@code \w}.
+     */
+    private static boolean isWord(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Same as regex {@code \s}.
+     */
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static final class Variable {
+        private final String name;
+        private final String var;
+        private final String access;
+        private final String inMap;
+        private final CompiledStringExpression expression;
+        private final String group;
+
+        Variable(String name, String var, String access, String group) {
+            this.name = name;
+            this.var = var;
+            this.access = access;
+            this.inMap = name == null ? var + "." + access : null;
+            this.expression = access != null && !access.isEmpty()
+                    ? SimpleStringExpression.compile(var + SimpleStringExpression.METHOD_INVOKE_SYMBOL + access)
+                    : null;
+            this.group = group;
+        }
+
+        String evaluate(String pattern, Map<String, Object> variables) {
+            String value;
+
+            if (this.name != null) {
+                Object val = variables.get(this.name);
+                value = val != null ? val.toString() : this.name;
+            } else if (variables.containsKey(this.inMap)) {
+                value = (String) variables.get(this.inMap);
+            } else {
+                Object val = variables.get(this.var);
+
+                if (val == null) {
+                    value = null;
+                } else if (this.expression == null) {
+                    value = val.toString();
+                } else {
+                    value = this.expression.evaluate(variables).toString();
+                }
+            }
+
+            if (value == null)
+                throw new JStringApplyException("Failed to process String: '" + pattern + "'. group: '" + this.group + "'. Variable has no value.");
+
+            return value;
+        }
+    }
+}
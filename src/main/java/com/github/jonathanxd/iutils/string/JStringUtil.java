@@ -27,82 +27,42 @@
  */
 package com.github.jonathanxd.iutils.string;
 
-import com.github.jonathanxd.iutils.exception.JStringApplyException;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * JString parser utility.
  */
 public final class JStringUtil {
 
-    private static final Pattern VARIABLE_FORMAT_REFEX = Pattern.compile("\\$((?<svar>\\w+)|(\\{(?<var>[^.}]+)\\s*(\\.\\s*(?<access>[^}]*))?\\})?)");
-
     private JStringUtil() {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Compiles {@code original} string into a template which can be evaluated many times without
+     * parsing {@code original} again.
+     *
+     * @param original Original string.
+     * @return Template of {@code original} string.
+     */
+    @NotNull
+    public static JStringTemplate compile(@NotNull String original) {
+        return JStringTemplate.compile(original);
+    }
+
     /**
      * Evaluates all expressions in {@code original} string and returns evaluated string.
      *
+     * Prefer {@link #compile(String) compiling} strings which are evaluated many times.
+     *
      * @param original  Original string.
      * @param variables Variables.
      * @return Evaluated string.
      */
     public static String evaluate(String original, Map<String, Object> variables) {
-
-        StringBuffer replacing = new StringBuffer(original.length());
-
-        Matcher matcher = VARIABLE_FORMAT_REFEX.matcher(original);
-
-        while (matcher.find()) {
-            String svar = matcher.group("svar");
-
-            String toReplace = svar;
-
-            if (svar != null && !svar.isEmpty()) {
-
-                Object val = variables.get(svar);
-
-                if (val != null) {
-                    toReplace = val.toString();
-                }
-            } else {
-
-                String var = matcher.group("var");
-                String access = matcher.group("access");
-
-                String inMap = var + "." + access;
-
-                if (variables.containsKey(inMap)) {
-                    toReplace = (String) variables.get(inMap);
-                } else {
-
-                    Object val = variables.get(var);
-
-                    if (val != null) {
-                        if (access == null || access.isEmpty()) {
-                            toReplace = val.toString();
-                        } else {
-                            Object o = SimpleStringExpression.evaluateExpression(var + SimpleStringExpression.METHOD_INVOKE_SYMBOL + access, variables);
-
-                            toReplace = o.toString();
-                        }
-                    }
-                }
-            }
-            try {
-                matcher.appendReplacement(replacing, Matcher.quoteReplacement(toReplace));
-            } catch (Exception e) {
-                throw new JStringApplyException("Failed to process String: '" + original + "'. group: '" + matcher.group() + "'. matcher: '" + matcher + "'.", e);
-            }
-        }
-
-        matcher.appendTail(replacing);
-
-        return replacing.toString();
+        return JStringTemplate.compile(original).evaluate(variables);
     }
 
 }
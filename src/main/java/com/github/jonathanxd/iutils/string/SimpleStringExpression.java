@@ -34,6 +34,7 @@ import com.github.jonathanxd.iutils.type.Primitive;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -66,6 +67,102 @@ public class SimpleStringExpression {
         return SimpleStringExpression.evaluateExpression(string, variables, -1, new ArrayList<>());
     }
 
+    /**
+     * Compiles the expression string {@code string} into an expression which evaluates to the same
+     * object as {@link #evaluateExpression(String, Map)}, but without parsing {@code string} again.
+     *
+     * @param string String expression.
+     * @return Compiled expression.
+     */
+    public static CompiledStringExpression compile(String string) {
+        Node root;
+
+        try {
+            root = SimpleStringExpression.compileExpression(string, -1);
+        } catch (RuntimeException e) {
+            // Malformed expressions fails in the same way as they would when evaluated
+            root = new InterpretedNode(string);
+        }
+
+        return new CompiledStringExpression(string, root);
+    }
+
+    private static Node compileExpression(String string, int resultN) {
+        if (resultN >= 256)
+            return new LimitNode();
+
+        int indexOfMethod = string.indexOf(METHOD_INVOKE_SYMBOL);
+
+        String varName = string;
+
+        if (indexOfMethod != -1) {
+            varName = string.substring(0, indexOfMethod).trim();
+
+            int range = parseMethodRange(string, 1);
+
+            if (range != -1) {
+                int methodNameStart = indexOfMethod + METHOD_INVOKE_SYMBOL.length();
+
+                String[] arguments = parseArguments(string.substring(0, range + 1));
+
+                return SimpleStringExpression.compileMethod(resultN == -1 ? varName : null, true, string, arguments, methodNameStart, range, resultN);
+            } else {
+                int pos = indexOfMethod + METHOD_INVOKE_SYMBOL.length();
+                int end = string.indexOf(METHOD_INVOKE_SYMBOL, pos);
+
+                end = end != -1 ? end : string.length();
+
+                String fieldName = string.substring(pos, end).trim();
+                String rangeRes = string.substring(pos + fieldName.length());
+
+                return new FieldNode(resultN == -1 ? varName : null, resultN, fieldName, SimpleStringExpression.compileNext(rangeRes, resultN));
+            }
+        } else {
+            Object parseValue;
+
+            if ((parseValue = parseValue(varName)) != null)
+                return new ConstantNode(parseValue);
+
+            if (resultN == -1)
+                return new VariableNode(varName);
+
+            int range = SimpleStringExpression.parseMethodRange(string, 0);
+
+            if (range != -1) {
+                int methodNameStart = indexOfMethod + METHOD_INVOKE_SYMBOL.length();
+
+                String[] arguments = parseArguments(string.substring(0, range + 1));
+
+                return SimpleStringExpression.compileMethod(null, false, string, arguments, methodNameStart, range, resultN);
+            } else {
+                return new LocalFieldNode(varName, resultN);
+            }
+        }
+    }
+
+    private static Node compileMethod(String varName, boolean classIsStatic, String methodString, String[] arguments, int methodNameStart, int range, int resultN) {
+        String methodName = methodString.substring(methodNameStart, methodString.indexOf('(', methodNameStart)).trim();
+        Node[] argumentNodes = new Node[arguments.length];
+
+        for (int i = 0; i < arguments.length; i++) {
+            argumentNodes[i] = SimpleStringExpression.compile(arguments[i]).getRoot();
+        }
+
+        return new MethodNode(varName, classIsStatic, resultN, methodName, argumentNodes,
+                SimpleStringExpression.compileNext(methodString.substring(range + 1), resultN));
+    }
+
+    private static Node compileNext(String rest, int resultN) {
+        if (rest.length() == 0 || rest.equals(";"))
+            return null;
+
+        if (rest.startsWith(".")) {
+            rest = rest.substring(1);
+        }
+
+        return SimpleStringExpression.compileExpression(rest, resultN + 1);
+    }
+
     private static Object evaluateExpression(String string, Map<String, Object> variables, int resultN, List<Object> results) {
         if (resultN >= 256)
             throw new MaxRecursiveParseException("Exceeded limit of 256 local variables.");
@@ -144,11 +241,7 @@ public class SimpleStringExpression {
 
 
                 } catch (NoSuchFieldException | IllegalAccessException e) {
-                    RuntimeException ex = new RuntimeException("Cannot access field '" + fieldName + "' of class '" + aClass.getCanonicalName() + "'", e);
-
-                    ex.setStackTrace(new StackTraceElement[]{ex.getStackTrace()[0]});
-
-                    throw ex;
+                    throw SimpleStringExpression.fieldAccessException(fieldName, aClass, e);
                 }
             }
 
@@ -229,6 +322,14 @@ public class SimpleStringExpression {
         return SimpleStringExpression.evaluateExpression(afterClose, variables, resultN + 1, results2);
     }
 
+    private static RuntimeException fieldAccessException(String fieldName, Class<?> aClass, Exception e) {
+        RuntimeException ex = new RuntimeException("Cannot access field '" + fieldName + "' of class '" + aClass.getCanonicalName() + "'", e);
+
+        ex.setStackTrace(new StackTraceElement[]{ex.getStackTrace()[0]});
+
+        return ex;
+    }
+
     private static Object parseValue(String s) {
         try {
             return Integer.parseInt(s);
@@ -376,4 +477,318 @@ public class SimpleStringExpression {
         return -1;
     }
 
+    /**
+     * Operation of a {@link CompiledStringExpression}, mirrors a step of {@link
+     * #evaluateExpression(String, Map, int, List)}.
+     */
+    abstract static class Node {
+
+        /**
+         * Evaluates this operation.
+         *
+         * @param variables Provided variables.
+         * @param previous  Result of previous operation, or {@code null} if this is the first
+         *                  operation.
+         * @return Result of this operation.
+         */
+        abstract Object evaluate(Map<String, Object> variables, Object previous);
+
+        static Object receiver(String varName, int resultN, Map<String, Object> variables, Object previous) {
+            if (varName != null)
+                return Objects.requireNonNull(variables.get(varName), "Cannot find variable '" + varName + "'");
+
+            return Objects.requireNonNull(previous, "Null local value at index '" + resultN + "'!");
+        }
+
+        static Object next(Node next, Map<String, Object> variables, Object result) {
+            return next == null ? result : next.evaluate(variables, result);
+        }
+    }
+
+    private static final class InterpretedNode extends Node {
+        private final String string;
+
+        InterpretedNode(String string) {
+            this.string = string;
+        }
+
+        @Override
+        Object evaluate(Map<String, Object> variables, Object previous) {
+            return SimpleStringExpression.evaluateExpression(this.string, variables);
+        }
+    }
+
+    private static final class LimitNode extends Node {
+        @Override
+        Object evaluate(Map<String, Object> variables, Object previous) {
+            throw new MaxRecursiveParseException("Exceeded limit of 256 local variables.");
+        }
+    }
+
+    private static final class ConstantNode extends Node {
+        private final Object value;
+
+        ConstantNode(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        Object evaluate(Map<String, Object> variables, Object previous) {
+            return this.value;
+        }
+    }
+
+    private static final class VariableNode extends Node {
+        private final String varName;
+
+        VariableNode(String varName) {
+            this.varName = varName;
+        }
+
+        @Override
+        Object evaluate(Map<String, Object> variables, Object previous) {
+            if (variables.containsKey(this.varName)) {
+                return variables.get(this.varName);
+            } else {
+                throw new RuntimeException("Cannot find variable '" + this.varName + "'");
+            }
+        }
+    }
+
+    /**
+     * Invocation of a method, linked methods are cached by receiver class and argument classes.
+     */
+    private static final class MethodNode extends Node {
+        private static final int MAX_CACHE_SIZE = 8;
+
+        private final String varName;
+        private final boolean classIsStatic;
+        private final int resultN;
+        private final String methodName;
+        private final Node[] arguments;
+        private final Node next;
+        private volatile LinkedMethod[] cache = new LinkedMethod[0];
+
+        MethodNode(String varName, boolean classIsStatic, int resultN, String methodName, Node[] arguments, Node next) {
+            this.varName = varName;
+            this.classIsStatic = classIsStatic;
+            this.resultN = resultN;
+            this.methodName = methodName;
+            this.arguments = arguments;
+            this.next = next;
+        }
+
+        @Override
+        Object evaluate(Map<String, Object> variables, Object previous) {
+            Object varValue = Node.receiver(this.varName, this.resultN, variables, previous);
+            Class<?> aClass;
+
+            if (this.classIsStatic && varValue instanceof Class) {
+                aClass = (Class<?>) varValue;
+                varValue = null;
+            } else {
+                aClass = varValue.getClass();
+            }
+
+            int offset = varValue != null ? 1 : 0;
+            Object[] invokeArguments = new Object[this.arguments.length + offset];
+
+            for (int i = 0; i < this.arguments.length; i++) {
+                invokeArguments[i + offset] = this.arguments[i].evaluate(variables, null);
+            }
+
+            MethodHandle invoker = this.link(aClass, varValue, invokeArguments, offset);
+
+            if (varValue != null)
+                invokeArguments[0] = varValue;
+
+            Object resultL;
+
+            try {
+                resultL = (Object) invoker.invokeExact(invokeArguments);
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+
+            return Node.next(this.next, variables, resultL);
+        }
+
+        /**
+         * Gets an invoker of the method, which takes receiver (if not static) and arguments spread
+         * in an array.
+         */
+        private MethodHandle link(Class<?> aClass, Object varValue, Object[] invokeArguments, int offset) {
+            boolean isStatic = varValue == null;
+            Class<?>[] argumentTypes = new Class<?>[invokeArguments.length - offset];
+
+            for (int i = 0; i < argumentTypes.length; i++) {
+                argumentTypes[i] = invokeArguments[i + offset].getClass();
+            }
+
+            LinkedMethod[] cache = this.cache;
+
+            for (LinkedMethod linked : cache) {
+                if (linked.matches(aClass, isStatic, argumentTypes))
+                    return linked.invoker;
+            }
+
+            Object[] filledArguments = Arrays.copyOfRange(invokeArguments, offset, invokeArguments.length);
+            MethodHandle method = SimpleStringExpression.findMethod(aClass, this.methodName, varValue, filledArguments);
+
+            // Same conversions as invokeWithArguments, bound handles are never variable arity
+            if (!isStatic)
+                method = method.asFixedArity();
+
+            int arity = invokeArguments.length;
+            MethodHandle invoker = method.asType(MethodType.genericMethodType(arity))
+                    .asSpreader(Object[].class, arity);
+
+            if (cache.length < MAX_CACHE_SIZE) {
+                LinkedMethod[] newCache = Arrays.copyOf(cache, cache.length + 1);
+                newCache[cache.length] = new LinkedMethod(aClass, isStatic, argumentTypes, invoker);
+                this.cache = newCache;
+            }
+
+            return invoker;
+        }
+    }
+
+    private static final class LinkedMethod {
+        final Class<?> receiverClass;
+        final boolean isStatic;
+        final Class<?>[] argumentTypes;
+        final MethodHandle invoker;
+
+        LinkedMethod(Class<?> receiverClass, boolean isStatic, Class<?>[] argumentTypes, MethodHandle invoker) {
+            this.receiverClass = receiverClass;
+            this.isStatic = isStatic;
+            this.argumentTypes = argumentTypes;
+            this.invoker = invoker;
+        }
+
+        boolean matches(Class<?> receiverClass, boolean isStatic, Class<?>[] argumentTypes) {
+            return this.receiverClass == receiverClass
+                    && this.isStatic == isStatic
+                    && Arrays.equals(this.argumentTypes, argumentTypes);
+        }
+    }
+
+    /**
+     * Access to a public field of a variable, a class (static field) or a previous result.
+     */
+    private static final class FieldNode extends Node {
+        private final String varName;
+        private final int resultN;
+        private final String fieldName;
+        private final Node next;
+        private volatile LinkedField linked;
+
+        FieldNode(String varName, int resultN, String fieldName, Node next) {
+            this.varName = varName;
+            this.resultN = resultN;
+            this.fieldName = fieldName;
+            this.next = next;
+        }
+
+        @Override
+        Object evaluate(Map<String, Object> variables, Object previous) {
+            Object varValue = Node.receiver(this.varName, this.resultN, variables, previous);
+            Class<?> aClass;
+
+            if (varValue instanceof Class) {
+                aClass = (Class<?>) varValue;
+                varValue = null;
+            } else {
+                aClass = varValue.getClass();
+            }
+
+            LinkedField linked = this.linked;
+            Object v;
+
+            try {
+                if (linked == null || linked.receiverClass != aClass) {
+                    linked = new LinkedField(aClass, aClass.getField(this.fieldName));
+                    this.linked = linked;
+                }
+
+                v = linked.get(varValue);
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw SimpleStringExpression.fieldAccessException(this.fieldName, aClass, e);
+            }
+
+            return Node.next(this.next, variables, v);
+        }
+    }
+
+    /**
+     * Access to any field of a previous result.
+     */
+    private static final class LocalFieldNode extends Node {
+        private final String varName;
+        private final int resultN;
+        private volatile LinkedField linked;
+
+        LocalFieldNode(String varName, int resultN) {
+            this.varName = varName;
+            this.resultN = resultN;
+        }
+
+        @Override
+        Object evaluate(Map<String, Object> variables, Object previous) {
+            Object value = Objects.requireNonNull(previous, "Null local value at index '" + this.resultN + "'!");
+            LinkedField linked = this.linked;
+
+            try {
+                if (linked == null || linked.receiverClass != value.getClass()) {
+                    Field field = value.getClass().getField(this.varName);
+
+                    field.setAccessible(true);
+
+                    linked = new LinkedField(value.getClass(), field);
+                    this.linked = linked;
+                }
+
+                return linked.get(value);
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new RethrowException(e);
+            }
+        }
+    }
+
+    private static final class LinkedField {
+        final Class<?> receiverClass;
+        final Field field;
+        final MethodHandle getter;
+
+        LinkedField(Class<?> receiverClass, Field field) {
+            this.receiverClass = receiverClass;
+            this.field = field;
+
+            MethodHandle getter;
+
+            try {
+                getter = LOOKUP.unreflectGetter(field);
+                getter = getter.asType(Modifier.isStatic(field.getModifiers())
+                        ? MethodType.methodType(Object.class)
+                        : MethodType.methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                getter = null; // Fallback to reflection, which reports the failure
+            }
+
+            this.getter = getter;
+        }
+
+        Object get(Object receiver) throws IllegalAccessException {
+            if (this.getter == null || (receiver == null && this.getter.type().parameterCount() != 0))
+                return this.field.get(receiver);
+
+            try {
+                return this.getter.type().parameterCount() == 0
+                        ? (Object) this.getter.invokeExact()
+                        : (Object) this.getter.invokeExact(receiver);
+            } catch (Throwable throwable) {
+                throw new RethrowException(throwable);
+            }
+        }
+    }
 }
@@ -27,22 +27,17 @@
  */
 package com.github.jonathanxd.iutils.string;
 
-import com.github.jonathanxd.iutils.array.ArrayUtils;
-import com.github.jonathanxd.iutils.array.PrimitiveArrayConverter;
-import com.github.jonathanxd.iutils.box.IMutableBox;
-import com.github.jonathanxd.iutils.box.MutableBox;
-import com.github.jonathanxd.iutils.iterator.IteratorUtil;
-import com.github.jonathanxd.iutils.opt.Opt;
-import com.github.jonathanxd.iutils.opt.OptObject;
+import com.github.jonathanxd.iutils.exception.RethrowException;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
-import java.util.function.Consumer;
-import java.util.stream.IntStream;
 
 public class StringObjHelper {
 
@@ -157,8 +152,7 @@ public class StringObjHelper {
      * @return List with parsed values.
      */
     public static List<Object> parseStringList(String stringList, boolean reqTag) {
-        Iterator<Character> charIter = IteratorUtil.ofArray(PrimitiveArrayConverter.fromPrimitive(stringList.toCharArray()));
-        return StringObjHelper.parseStringList(charIter, reqTag);
+        return StringObjHelper.parseStringList((CharSequence) stringList, reqTag);
     }
 
     /**
@@ -181,18 +175,11 @@ public class StringObjHelper {
      * @return List with parsed values.
      */
     public static List<Object> parseStringList(Iterator<Character> charIter, boolean reqTag) {
-
-        if (reqTag) {
-            if (!charIter.hasNext())
-                throw new ListParseException("Empty string list");
-
-            Character c;
-            if ((c = charIter.next()) != LIST_OPEN) {
-                throw new ListParseException("Expected '" + LIST_OPEN + "' but found '" + c + "'.");
-            }
+        try {
+            return StringObjHelper.parseStringList(new ObjParser(charIter), reqTag);
+        } catch (IOException e) {
+            throw new RethrowException(e);
         }
-
-        return StringObjHelper.parseStringList0(charIter, reqTag);
     }
 
     /**
@@ -215,17 +202,11 @@ public class StringObjHelper {
      * @return Map with parsed values.
      */
     public static Map<Object, Object> parseStringMap(Iterator<Character> charIter, boolean reqTag) {
-        if (reqTag) {
-            if (!charIter.hasNext())
-                throw new MapParseException("Empty string map");
-
-            Character c;
-            if ((c = charIter.next()) != MAP_OPEN) {
-                throw new MapParseException("Expected '" + MAP_OPEN + "' but found '" + c + "'.");
-            }
+        try {
+            return StringObjHelper.parseStringMap(new ObjParser(charIter), reqTag);
+        } catch (IOException e) {
+            throw new RethrowException(e);
         }
-
-        return StringObjHelper.parseStringMap0(charIter, reqTag);
     }
 
     /**
@@ -248,298 +229,536 @@ public class StringObjHelper {
      * @return Map with parsed values.
      */
     public static Map<Object, Object> parseStringMap(String stringMap, boolean reqTag) {
-        Iterator<Character> charIter = IteratorUtil.ofArray(PrimitiveArrayConverter.fromPrimitive(stringMap.toCharArray()));
-        return StringObjHelper.parseStringMap(charIter, reqTag);
+        return StringObjHelper.parseStringMap((CharSequence) stringMap, reqTag);
     }
 
-    private static List<Object> parseStringList0(Iterator<Character> charIter, boolean req) {
-        StringBuilder stringBuilder = new StringBuilder();
-        boolean lastIsEscape = false;
-        boolean[] openCount = new boolean[OPEN_CLOSE_CHAR.length];
+    /**
+     * Parses a string list in the format specified in {@link #parseStringList(String, boolean)}.
+     *
+     * Chars are read directly from {@code chars} by index.
+     *
+     * @param chars  Chars with list in the specified format.
+     * @param reqTag Whether {@code []} is required in main {@code chars}.
+     * @return List with parsed values.
+     */
+    public static List<Object> parseStringList(CharSequence chars, boolean reqTag) {
+        try {
+            return StringObjHelper.parseStringList(new ObjParser(chars), reqTag);
+        } catch (IOException e) {
+            throw new RethrowException(e);
+        }
+    }
 
-        List<Object> list = new ArrayList<>();
-        final IMutableBox<Object> obj = new MutableBox<>();
+    /**
+     * Parses a string list in the format specified in {@link #parseStringList(String, boolean)}.
+     *
+     * Chars are read from {@code reader} to a buffer, which may consume chars after the end of
+     * the list.
+     *
+     * @param reader Reader to read list in the specified format from.
+     * @param reqTag Whether {@code []} is required in main list.
+     * @return List with parsed values.
+     * @throws IOException If {@code reader} fails to read.
+     */
+    public static List<Object> parseStringList(Reader reader, boolean reqTag) throws IOException {
+        return StringObjHelper.parseStringList(new ObjParser(reader), reqTag);
+    }
 
-        BiConsumer<Object, Token> set = (input, token) -> {
-            if (token != Token.SEPARATOR && token != Token.CLOSE)
-                throw new ListParseException("Expected list element but found token: $token.");
-
-            list.add(input);
-        };
-
-        Consumer<Object> setObj = (input) -> {
-            if (obj.get() != null)
-                throw new ListParseException("Expected either list or map, but found both.");
-
-            obj.set(input);
-        };
-
-        Consumer<Character> append = stringBuilder::append;
-        Consumer<Token> build = token -> {
-            if (obj.get() != null && stringBuilder.length() != 0)
-                throw new ListParseException("Invalid entry, list object with list entry string." +
-                        " Obj: " + obj + ", entry string: " + stringBuilder);
-            if (obj.get() != null) {
-                set.accept(obj.get(), token);
-                obj.set(null);
-            } else {
-                if (stringBuilder.length() != 0) {
-                    set.accept(stringBuilder.toString(), token);
-                    stringBuilder.setLength(0);
-                }
+    /**
+     * Parses a string map in the format specified in {@link #parseStringMap(String, boolean)}.
+     *
+     * Chars are read directly from {@code chars} by index.
+     *
+     * @param chars  Chars with map in the specified format.
+     * @param reqTag Whether {@code {}} is required in main {@code chars}.
+     * @return Map with parsed values.
+     */
+    public static Map<Object, Object> parseStringMap(CharSequence chars, boolean reqTag) {
+        try {
+            return StringObjHelper.parseStringMap(new ObjParser(chars), reqTag);
+        } catch (IOException e) {
+            throw new RethrowException(e);
+        }
+    }
+
+    /**
+     * Parses a string map in the format specified in {@link #parseStringMap(String, boolean)}.
+     *
+     * Chars are read from {@code reader} to a buffer, which may consume chars after the end of
+     * the map.
+     *
+     * @param reader Reader to read map in the specified format from.
+     * @param reqTag Whether {@code {}} is required in main map.
+     * @return Map with parsed values.
+     * @throws IOException If {@code reader} fails to read.
+     */
+    public static Map<Object, Object> parseStringMap(Reader reader, boolean reqTag) throws IOException {
+        return StringObjHelper.parseStringMap(new ObjParser(reader), reqTag);
+    }
+
+    private static List<Object> parseStringList(ObjParser parser, boolean reqTag) throws IOException {
+        if (reqTag) {
+            if (!parser.hasNext())
+                throw new ListParseException("Empty string list");
+
+            char c;
+            if ((c = parser.next()) != LIST_OPEN) {
+                throw new ListParseException("Expected '" + LIST_OPEN + "' but found '" + c + "'.");
+            }
+        }
+
+        return parser.parseList(reqTag);
+    }
+
+    private static Map<Object, Object> parseStringMap(ObjParser parser, boolean reqTag) throws IOException {
+        if (reqTag) {
+            if (!parser.hasNext())
+                throw new MapParseException("Empty string map");
+
+            char c;
+            if ((c = parser.next()) != MAP_OPEN) {
+                throw new MapParseException("Expected '" + MAP_OPEN + "' but found '" + c + "'.");
+            }
+        }
+
+        return parser.parseMap(reqTag);
+    }
+
+    /**
+     * Parse a simple properties map (like Java properties).
+     *
+     * @param propertyString String with properties.
+     * @return Property map
+     */
+    public static Map<String, String> parsePropertyMap(String propertyString) {
+        return StringObjHelper.parsePropertyMap((CharSequence) propertyString);
+    }
+
+    /**
+     * Parse a simple properties map (like Java properties).
+     *
+     * Chars are read directly from {@code chars} by index.
+     *
+     * @param chars Chars with properties.
+     * @return Property map
+     */
+    public static Map<String, String> parsePropertyMap(CharSequence chars) {
+        Map<String, String> map = new HashMap<>();
+        PropertyParser parser = new PropertyParser(map::put);
+
+        for (int i = 0; i < chars.length(); i++) {
+            parser.accept(chars.charAt(i));
+        }
+
+        parser.finish();
+        return map;
+    }
+
+    /**
+     * Parse a simple properties map (like Java properties).
+     *
+     * Unlike {@link #parsePropertyMap(BufferedReader, BiConsumer)}, all chars of {@code reader}
+     * are parsed, the result is the same as {@link #parsePropertyMap(String)} of the whole
+     * content.
+     *
+     * @param reader Reader to read properties from.
+     * @return Property map
+     * @throws IOException If {@code reader} fails to read.
+     */
+    public static Map<String, String> parsePropertyMap(Reader reader) throws IOException {
+        Map<String, String> map = new HashMap<>();
+        PropertyParser parser = new PropertyParser(map::put);
+        char[] buffer = new char[ObjParser.BUFFER_SIZE];
+        int read;
+
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                parser.accept(buffer[i]);
             }
-        };
+        }
+
+        parser.finish();
+        return map;
+    }
+
+    /**
+     * Parse a simple properties map (like Java properties).
+     *
+     * @param charIter Iterator
+     * @return Property map
+     */
+    public static Map<String, String> parsePropertyMap(Iterator<Character> charIter) {
+        Map<String, String> map = new HashMap<>();
+        PropertyParser parser = new PropertyParser(map::put);
 
         while (charIter.hasNext()) {
-            Character c = charIter.next();
+            parser.accept(charIter.next());
+        }
 
-            int indexOfOpenClose0 = -1;
+        parser.finish();
+        return map;
+    }
 
-            for (int i = 0; i < OPEN_CLOSE_CHAR.length; i++) {
-                if (OPEN_CLOSE_CHAR[i] == c) {
-                    indexOfOpenClose0 = i;
-                    break;
-                }
+    /**
+     * Parses a simple properties map (like Java properties) from lines of {@code reader}, calling
+     * {@code consumer} for each property as soon as it is parsed.
+     *
+     * Empty lines are ignored and remaining lines are joined with {@code \n}, so the result is the
+     * same as {@link #parsePropertyMap(String)} of the joined lines, except that repeated keys are
+     * all passed to {@code consumer}. Only the current property is kept in memory.
+     *
+     * @param reader   Reader to read properties from.
+     * @param consumer Consumer of parsed key and value pairs.
+     * @throws IOException If {@code reader} fails to read.
+     */
+    public static void parsePropertyMap(BufferedReader reader,
+                                        BiConsumer<? super String, ? super String> consumer) throws IOException {
+        PropertyParser parser = new PropertyParser(consumer);
+        boolean first = true;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty())
+                continue;
+
+            if (!first)
+                parser.accept('\n');
+
+            first = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                parser.accept(line.charAt(i));
             }
+        }
 
-            final int indexOfOpenClose = indexOfOpenClose0;
+        parser.finish();
+    }
 
-            if (lastIsEscape) {
-                lastIsEscape = false;
-                append.accept(c);
+    /**
+     * Char by char state machine of property map parsing.
+     */
+    private static final class PropertyParser {
+        private final StringBuilder stringBuilder = new StringBuilder();
+        private final BiConsumer<? super String, ? super String> consumer;
+        private boolean lastIsEscape = false;
+        private String key;
+
+        PropertyParser(BiConsumer<? super String, ? super String> consumer) {
+            this.consumer = consumer;
+        }
+
+        void accept(char c) {
+            if (this.lastIsEscape) {
+                this.lastIsEscape = false;
+                this.stringBuilder.append(c);
             } else if (c == ESCAPE) {
-                lastIsEscape = true;
-            } else if (IntStream.rangeClosed(0, OPEN_CLOSE_CHAR.length - 1)
-                    .anyMatch(it -> it != indexOfOpenClose && openCount[it])) {
-                append.accept(c);
-            } else if (indexOfOpenClose != -1) {
-                boolean bValue = openCount[indexOfOpenClose];
-                openCount[indexOfOpenClose] = !bValue;
-            } else if (ArrayUtils.any(SEPARATORS, t -> t == c)) {
-                build.accept(Token.SEPARATOR);
-            } else if (c == MAP_OPEN) {
-                setObj.accept(parseStringMap0(charIter, true));
-            } else if (c == MAP_CLOSE) {
-                build.accept(Token.CLOSE);
-            } else if (c == LIST_OPEN) {
-                setObj.accept(parseStringList0(charIter, true));
-            } else if (c == LIST_CLOSE) {
-                build.accept(Token.CLOSE);
-                return list;
+                this.lastIsEscape = true;
+            } else if (PropertyParser.isSeparator(c)) {
+                this.build(Token.SEPARATOR);
+            } else if (c == MAP_DEFINE && this.key == null) {
+                this.build(Token.DEFINE);
             } else {
-                append.accept(c);
+                this.stringBuilder.append(c);
             }
         }
 
-        for (int i = 0; i < openCount.length; i++) {
-            if (openCount[i]) {
-                // Remaining chars
-                append.accept(OPEN_CLOSE_CHAR[i]);
+        void finish() {
+            if (this.stringBuilder.length() != 0) {
+                this.build(Token.CLOSE);
             }
         }
 
-        if (stringBuilder.length() != 0 || obj.isPresent()) {
-            build.accept(Token.CLOSE);
+        private static boolean isSeparator(char c) {
+            for (Character separator : PROP_SEPARATORS) {
+                if (separator == c)
+                    return true;
+            }
+
+            return false;
         }
 
-        if (req)
-            throw new ListParseException("Expected list close tag '" + LIST_CLOSE + "' at end of string");
+        private void build(Token token) {
+            if (this.stringBuilder.length() != 0 || this.key != null) {
+                String input = this.stringBuilder.toString();
+                this.stringBuilder.setLength(0);
+
+                if (this.key == null) {
+                    this.key = input;
+                } else {
+                    if (token != Token.SEPARATOR && token != Token.CLOSE)
+                        throw new MapParseException("Expected key ('" + this.key + "') value but found token: " + token + ".");
 
-        return list;
+                    this.consumer.accept(this.key, input);
+                    this.key = null;
+                }
+            }
+        }
     }
 
-    private static Map<Object, Object> parseStringMap0(Iterator<Character> charIter, boolean req) {
-        StringBuilder stringBuilder = new StringBuilder();
-        boolean lastIsEscape = false;
-        boolean[] openCount = new boolean[OPEN_CLOSE_CHAR.length];
+    /**
+     * Index based scanner of string lists and maps. Chars are read from a {@link CharSequence},
+     * from a buffer filled by a {@link Reader} or from an {@link Iterator} of chars, nested lists
+     * and maps continue reading from the same position.
+     */
+    private static final class ObjParser {
+        static final int BUFFER_SIZE = 1024;
+
+        private final CharSequence chars;
+        private final Reader reader;
+        private final Iterator<Character> iterator;
+        private final char[] buffer;
+        private int index;
+        private int length;
+
+        ObjParser(CharSequence chars) {
+            this.chars = chars;
+            this.reader = null;
+            this.iterator = null;
+            this.buffer = null;
+            this.length = chars.length();
+        }
 
-        final Map<Object, Object> map = new HashMap<>();
-        final IMutableBox<OptObject<Object>> key = new MutableBox<>(Opt.none());
-        final IMutableBox<OptObject<Object>> value = new MutableBox<>(Opt.none());
-        final IMutableBox<Object> obj = new MutableBox<>();
+        ObjParser(Reader reader) {
+            this.chars = null;
+            this.reader = reader;
+            this.iterator = null;
+            this.buffer = new char[BUFFER_SIZE];
+        }
 
-        Consumer<Object> setObj = (input) -> {
-            if (obj.get() != null)
-                throw new MapParseException("Expected either list or map, but found both.");
+        ObjParser(Iterator<Character> iterator) {
+            this.chars = null;
+            this.reader = null;
+            this.iterator = iterator;
+            this.buffer = null;
+        }
 
-            obj.set(input);
-        };
+        boolean hasNext() throws IOException {
+            if (this.index < this.length)
+                return true;
 
-        BiConsumer<Object, Token> set = (input, token) -> {
-            if (token != Token.DEFINE && !key.isPresent())
-                throw new MapParseException("Expected map define character, but found token: " + token + ".");
+            if (this.iterator != null)
+                return this.iterator.hasNext();
 
-            if (token != Token.SEPARATOR && token != Token.CLOSE && key.get().isPresent() && !value.get().isPresent())
-                throw new MapParseException("Expected key ('" + key + "') value but found token: " + token + ".");
+            if (this.reader == null || this.length == -1)
+                return false;
 
-            if (!key.get().isPresent())
-                key.set(Opt.some(input));
-            else if (!value.get().isPresent())
-                value.set(Opt.some(input));
+            int read = this.reader.read(this.buffer);
 
-            if (key.get().isPresent() && value.get().isPresent()) {
-                map.put(key.get().getValue(), value.get().getValue());
-                key.set(Opt.none());
-                value.set(Opt.none());
-            }
-        };
-
-        Consumer<Character> append = stringBuilder::append;
-        Consumer<Token> build = token -> {
-            if (obj.get() != null && stringBuilder.length() != 0)
-                throw new MapParseException("Invalid entry, map object with map entry string." +
-                        " Obj: " + obj + ", entry string: " + stringBuilder);
-            if (obj.get() != null) {
-                set.accept(obj.get(), token);
-                obj.set(null);
-            } else {
-                if (stringBuilder.length() != 0) {
-                    set.accept(stringBuilder.toString(), token);
-                    stringBuilder.setLength(0);
-                }
+            if (read == -1) {
+                this.length = -1;
+                return false;
             }
-        };
 
-        while (charIter.hasNext()) {
-            Character c = charIter.next();
+            this.index = 0;
+            this.length = read;
+            return read > 0 || this.hasNext();
+        }
 
-            int indexOfOpenClose0 = -1;
+        char next() {
+            if (this.buffer != null)
+                return this.buffer[this.index++];
 
-            for (int i = 0; i < OPEN_CLOSE_CHAR.length; i++) {
-                if (OPEN_CLOSE_CHAR[i] == c) {
-                    indexOfOpenClose0 = i;
-                    break;
+            if (this.iterator != null)
+                return this.iterator.next();
+
+            return this.chars.charAt(this.index++);
+        }
+
+        List<Object> parseList(boolean req) throws IOException {
+            StringBuilder stringBuilder = new StringBuilder();
+            boolean lastIsEscape = false;
+            boolean[] openCount = new boolean[OPEN_CLOSE_CHAR.length];
+
+            List<Object> list = new ArrayList<>();
+            Object obj = null;
+
+            while (this.hasNext()) {
+                char c = this.next();
+                int indexOfOpenClose = ObjParser.indexOfOpenClose(c);
+
+                if (lastIsEscape) {
+                    lastIsEscape = false;
+                    stringBuilder.append(c);
+                } else if (c == ESCAPE) {
+                    lastIsEscape = true;
+                } else if (ObjParser.isOtherOpen(openCount, indexOfOpenClose)) {
+                    stringBuilder.append(c);
+                } else if (indexOfOpenClose != -1) {
+                    openCount[indexOfOpenClose] = !openCount[indexOfOpenClose];
+                } else if (ObjParser.isSeparator(c) || c == MAP_CLOSE) {
+                    Object entry = ObjParser.entry(obj, stringBuilder, false);
+                    obj = null;
+
+                    if (entry != null)
+                        list.add(entry);
+                } else if (c == MAP_OPEN || c == LIST_OPEN) {
+                    Object parsed = c == MAP_OPEN ? this.parseMap(true) : this.parseList(true);
+
+                    if (obj != null)
+                        throw new ListParseException("Expected either list or map, but found both.");
+
+                    obj = parsed;
+                } else if (c == LIST_CLOSE) {
+                    Object entry = ObjParser.entry(obj, stringBuilder, false);
+
+                    if (entry != null)
+                        list.add(entry);
+
+                    return list;
+                } else {
+                    stringBuilder.append(c);
                 }
             }
 
-            final int indexOfOpenClose = indexOfOpenClose0;
+            ObjParser.appendRemaining(openCount, stringBuilder);
 
-            if (lastIsEscape) {
-                lastIsEscape = false;
-                append.accept(c);
-            } else if (c == ESCAPE) {
-                lastIsEscape = true;
-            } else if (IntStream.rangeClosed(0, OPEN_CLOSE_CHAR.length - 1)
-                    .anyMatch(it -> it != indexOfOpenClose && openCount[it])) {
-                append.accept(c);
-            } else if (indexOfOpenClose != -1) {
-                boolean bValue = openCount[indexOfOpenClose];
-                openCount[indexOfOpenClose] = !bValue;
-            } else if (ArrayUtils.any(SEPARATORS, t -> t == c)) {
-                build.accept(Token.SEPARATOR);
-            } else if (c == MAP_DEFINE) {
-                build.accept(Token.DEFINE);
-            } else if (c == LIST_OPEN) {
-                setObj.accept(parseStringList0(charIter, true));
-            } else if (c == LIST_CLOSE) {
-                build.accept(Token.CLOSE);
-            } else if (c == MAP_OPEN) {
-                setObj.accept(parseStringMap0(charIter, true));
-            } else if (c == MAP_CLOSE) {
-                build.accept(Token.CLOSE);
-                return map;
-            } else {
-                append.accept(c);
-            }
+            Object entry = ObjParser.entry(obj, stringBuilder, false);
+
+            if (entry != null)
+                list.add(entry);
+
+            if (req)
+                throw new ListParseException("Expected list close tag '" + LIST_CLOSE + "' at end of string");
 
+            return list;
         }
 
-        for (int i = 0; i < openCount.length; i++) {
-            if (openCount[i]) {
-                // Remaining chars
-                append.accept(OPEN_CLOSE_CHAR[i]);
+        Map<Object, Object> parseMap(boolean req) throws IOException {
+            StringBuilder stringBuilder = new StringBuilder();
+            boolean lastIsEscape = false;
+            boolean[] openCount = new boolean[OPEN_CLOSE_CHAR.length];
+
+            Map<Object, Object> map = new HashMap<>();
+            Object key = null;
+            Object obj = null;
+
+            while (this.hasNext()) {
+                char c = this.next();
+                int indexOfOpenClose = ObjParser.indexOfOpenClose(c);
+
+                if (lastIsEscape) {
+                    lastIsEscape = false;
+                    stringBuilder.append(c);
+                } else if (c == ESCAPE) {
+                    lastIsEscape = true;
+                } else if (ObjParser.isOtherOpen(openCount, indexOfOpenClose)) {
+                    stringBuilder.append(c);
+                } else if (indexOfOpenClose != -1) {
+                    openCount[indexOfOpenClose] = !openCount[indexOfOpenClose];
+                } else if (ObjParser.isSeparator(c) || c == MAP_DEFINE || c == LIST_CLOSE) {
+                    Token token = c == MAP_DEFINE ? Token.DEFINE : c == LIST_CLOSE ? Token.CLOSE : Token.SEPARATOR;
+                    Object entry = ObjParser.entry(obj, stringBuilder, true);
+                    obj = null;
+
+                    if (entry != null)
+                        key = ObjParser.put(map, key, entry, token);
+                } else if (c == LIST_OPEN || c == MAP_OPEN) {
+                    Object parsed = c == LIST_OPEN ? this.parseList(true) : this.parseMap(true);
+
+                    if (obj != null)
+                        throw new MapParseException("Expected either list or map, but found both.");
+
+                    obj = parsed;
+                } else if (c == MAP_CLOSE) {
+                    Object entry = ObjParser.entry(obj, stringBuilder, true);
+
+                    if (entry != null)
+                        ObjParser.put(map, key, entry, Token.CLOSE);
+
+                    return map;
+                } else {
+                    stringBuilder.append(c);
+                }
             }
-        }
 
-        if (stringBuilder.length() != 0 || obj.isPresent()) {
-            build.accept(Token.CLOSE);
-        }
+            ObjParser.appendRemaining(openCount, stringBuilder);
 
-        if (req)
-            throw new MapParseException("Expected map close '" + MAP_CLOSE + "' at end of string.");
+            Object entry = ObjParser.entry(obj, stringBuilder, true);
 
-        return map;
-    }
+            if (entry != null)
+                ObjParser.put(map, key, entry, Token.CLOSE);
 
-    /**
-     * Parse a simple properties map (like Java properties).
-     *
-     * @param propertyString String with properties.
-     * @return Property map
-     */
-    public static Map<String, String> parsePropertyMap(String propertyString) {
-        Iterator<Character> charIter = IteratorUtil.ofArray(PrimitiveArrayConverter.fromPrimitive(propertyString.toCharArray()));
+            if (req)
+                throw new MapParseException("Expected map close '" + MAP_CLOSE + "' at end of string.");
 
-        if (!charIter.hasNext())
-            return new HashMap<>();
+            return map;
+        }
 
-        return StringObjHelper.parsePropertyMap(charIter);
-    }
+        /**
+         * Gets the entry built from either {@code obj} or {@code stringBuilder}, clearing
+         * {@code stringBuilder}, or {@code null} if there is no entry.
+         */
+        private static Object entry(Object obj, StringBuilder stringBuilder, boolean map) {
+            if (obj != null && stringBuilder.length() != 0) {
+                if (map)
+                    throw new MapParseException("Invalid entry, map object with map entry string." +
+                            " Obj: Box[" + obj + "], entry string: " + stringBuilder);
+                else
+                    throw new ListParseException("Invalid entry, list object with list entry string." +
+                            " Obj: Box[" + obj + "], entry string: " + stringBuilder);
+            }
 
-    /**
-     * Parse a simple properties map (like Java properties).
-     *
-     * @param charIter Iterator
-     * @return Property map
-     */
-    public static Map<String, String> parsePropertyMap(Iterator<Character> charIter) {
-        StringBuilder stringBuilder = new StringBuilder();
-        boolean lastIsEscape = false;
+            if (obj != null)
+                return obj;
+
+            if (stringBuilder.length() != 0) {
+                String entry = stringBuilder.toString();
+                stringBuilder.setLength(0);
+                return entry;
+            }
 
-        final Map<String, String> map = new HashMap<>();
-        final IMutableBox<OptObject<String>> key = new MutableBox<>(Opt.none());
-        final IMutableBox<OptObject<String>> value = new MutableBox<>(Opt.none());
+            return null;
+        }
 
-        BiConsumer<String, Token> set = (input, token) -> {
-            if (token != Token.DEFINE && !key.isPresent())
-                throw new MapParseException("Expected map define character, but found token: " + token + ".");
+        /**
+         * Sets {@code entry} as key or as value of {@code key}, returning the key of next entry.
+         */
+        private static Object put(Map<Object, Object> map, Object key, Object entry, Token token) {
+            if (key == null)
+                return entry;
 
-            if (token != Token.SEPARATOR && token != Token.CLOSE && key.get().isPresent() && !value.get().isPresent())
+            if (token != Token.SEPARATOR && token != Token.CLOSE)
                 throw new MapParseException("Expected key ('" + key + "') value but found token: " + token + ".");
 
-            if (!key.get().isPresent())
-                key.set(Opt.some(input));
-            else if (!value.get().isPresent())
-                value.set(Opt.some(input));
+            map.put(key, entry);
+            return null;
+        }
 
-            if (key.get().isPresent() && value.get().isPresent()) {
-                map.put(key.get().getValue(), value.get().getValue());
-                key.set(Opt.none());
-                value.set(Opt.none());
+        private static void appendRemaining(boolean[] openCount, StringBuilder stringBuilder) {
+            for (int i = 0; i < openCount.length; i++) {
+                if (openCount[i]) {
+                    // Remaining chars
+                    stringBuilder.append(OPEN_CLOSE_CHAR[i]);
+                }
             }
-        };
+        }
 
-        Consumer<Character> append = stringBuilder::append;
-        Consumer<Token> build = token -> {
-            if (stringBuilder.length() != 0 || key.get().isPresent()) {
-                set.accept(stringBuilder.toString(), token);
-                stringBuilder.setLength(0);
+        private static int indexOfOpenClose(char c) {
+            for (int i = 0; i < OPEN_CLOSE_CHAR.length; i++) {
+                if (OPEN_CLOSE_CHAR[i] == c)
+                    return i;
             }
-        };
 
-        while (charIter.hasNext()) {
-            Character c = charIter.next();
+            return -1;
+        }
 
-            if (lastIsEscape) {
-                lastIsEscape = false;
-                append.accept(c);
-            } else if (c == ESCAPE) {
-                lastIsEscape = true;
-            } else if (ArrayUtils.any(PROP_SEPARATORS, t -> t == c)) {
-                build.accept(Token.SEPARATOR);
-            } else if (c == MAP_DEFINE && (!key.isPresent() || !key.get().isPresent())) {
-                build.accept(Token.DEFINE);
-            } else {
-                append.accept(c);
+        private static boolean isOtherOpen(boolean[] openCount, int indexOfOpenClose) {
+            for (int i = 0; i < openCount.length; i++) {
+                if (i != indexOfOpenClose && openCount[i])
+                    return true;
             }
 
+            return false;
         }
 
-        if (stringBuilder.length() != 0) {
-            build.accept(Token.CLOSE);
-        }
+        private static boolean isSeparator(char c) {
+            for (Character separator : SEPARATORS) {
+                if (separator == c)
+                    return true;
+            }
 
-        return map;
+            return false;
+        }
     }
 
     enum Token {
@@ -27,6 +27,7 @@
  */
 package com.github.jonathanxd.iutils.text;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,12 +37,30 @@ import java.util.function.UnaryOperator;
 public final class ArgsAppliedText implements TextComponent {
     private final TextComponent component;
     private final Map<String, TextComponent> args;
+    // Lazily computed hash code, args are immutable so it never gets stale
+    private int hash;
 
+    /**
+     * Creates args applied text which takes ownership of {@code args}, which must be unmodifiable
+     * and never be changed.
+     */
     ArgsAppliedText(TextComponent component, Map<String, TextComponent> args) {
         this.component = component;
         this.args = args;
     }
 
+    /**
+     * Creates args applied text with an immutable copy of {@code args}, immutable maps created with
+     * {@link Map#of()} or {@link Map#copyOf(Map)} are not copied.
+     *
+     * @param component Component to apply args.
+     * @param args      Args to apply, without null keys or values.
+     * @return Args applied text.
+     */
+    public static ArgsAppliedText of(TextComponent component, Map<String, TextComponent> args) {
+        return new ArgsAppliedText(component, Map.copyOf(args));
+    }
+
     public TextComponent getComponent() {
         return this.component;
     }
@@ -59,7 +78,7 @@ public final class ArgsAppliedText implements TextComponent {
     public TextComponent apply(Map<String, TextComponent> args) {
         Map<String, TextComponent> nargs = new HashMap<>(this.getArgs());
         nargs.putAll(args);
-        return new ArgsAppliedText(component, nargs);
+        return new ArgsAppliedText(component, Collections.unmodifiableMap(nargs));
     }
 
     @Override
@@ -69,8 +88,12 @@ public final class ArgsAppliedText implements TextComponent {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this)
+            return true;
+
         if (obj instanceof ArgsAppliedText)
-            return Objects.equals(((ArgsAppliedText) obj).getComponent(), this.getComponent())
+            return obj.hashCode() == this.hashCode()
+                    && Objects.equals(((ArgsAppliedText) obj).getComponent(), this.getComponent())
                     && Objects.equals(((ArgsAppliedText) obj).getArgs(), this.getArgs());
 
         return super.equals(obj);
@@ -78,7 +101,14 @@ public final class ArgsAppliedText implements TextComponent {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.getComponent(), this.getArgs());
+        int hash = this.hash;
+
+        if (hash == 0) {
+            hash = Objects.hash(this.getComponent(), this.getArgs());
+            this.hash = hash;
+        }
+
+        return hash;
     }
 
     @Override
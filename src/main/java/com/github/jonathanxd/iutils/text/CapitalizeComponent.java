@@ -34,6 +34,7 @@ import java.util.function.UnaryOperator;
 
 public final class CapitalizeComponent implements TextComponent {
     private final TextComponent textComponent;
+    private int hash;
 
     private CapitalizeComponent(TextComponent textComponent) {
         this.textComponent = textComponent;
@@ -64,15 +65,26 @@ public final class CapitalizeComponent implements TextComponent {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this)
+            return true;
+
         if (obj instanceof CapitalizeComponent)
-            return Objects.equals(((CapitalizeComponent) obj).getTextComponent(), this.getTextComponent());
+            return obj.hashCode() == this.hashCode()
+                    && Objects.equals(((CapitalizeComponent) obj).getTextComponent(), this.getTextComponent());
 
         return super.equals(obj);
     }
 
     @Override
     public int hashCode() {
-        return this.getTextComponent().hashCode();
+        int hash = this.hash;
+
+        if (hash == 0) {
+            hash = this.getTextComponent().hashCode();
+            this.hash = hash;
+        }
+
+        return hash;
     }
 
     @Override
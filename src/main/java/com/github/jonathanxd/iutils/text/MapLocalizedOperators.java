@@ -35,6 +35,8 @@ import java.util.function.UnaryOperator;
 
 public class MapLocalizedOperators {
 
+    private static final UnaryOperator<List<TextComponent>> LINE_JUMP = MapLocalizedOperators.join(Text.of("\n"));
+
     /**
      * Returns an operator that adds a line jump ({@code \n}) after each component (excluding the
      * last).
@@ -43,7 +45,7 @@ public class MapLocalizedOperators {
      * last).
      */
     public static UnaryOperator<List<TextComponent>> lineJump() {
-        return MapLocalizedOperators.join(Text.of("\n"));
+        return MapLocalizedOperators.LINE_JUMP;
     }
 
     /**
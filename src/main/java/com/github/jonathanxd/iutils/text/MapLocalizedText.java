@@ -37,6 +37,7 @@ import java.util.function.UnaryOperator;
 public final class MapLocalizedText implements TextComponent {
     private final LocalizableComponent localizableComponent;
     private final UnaryOperator<List<TextComponent>> operator;
+    private int hash;
 
     MapLocalizedText(LocalizableComponent localizableComponent,
                      UnaryOperator<List<TextComponent>> operator) {
@@ -66,8 +67,12 @@ public final class MapLocalizedText implements TextComponent {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this)
+            return true;
+
         if (obj instanceof MapLocalizedText)
-            return Objects.equals(((MapLocalizedText) obj).getLocalizableComponent(), this.getLocalizableComponent())
+            return obj.hashCode() == this.hashCode()
+                    && Objects.equals(((MapLocalizedText) obj).getLocalizableComponent(), this.getLocalizableComponent())
                     && Objects.equals(((MapLocalizedText) obj).getOperator(), this.getOperator());
 
         return super.equals(obj);
@@ -75,7 +80,14 @@ public final class MapLocalizedText implements TextComponent {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.getLocalizableComponent(), this.getOperator());
+        int hash = this.hash;
+
+        if (hash == 0) {
+            hash = Objects.hash(this.getLocalizableComponent(), this.getOperator());
+            this.hash = hash;
+        }
+
+        return hash;
     }
 
     @Override
@@ -53,13 +53,25 @@ public final class Text implements Iterable<TextComponent>, TextComponent {
     private static final TextComponent EMPTY = new Text(Collections.emptyList());
 
     private final List<TextComponent> components;
+    // Lazily computed hash code, components never change so it never gets stale
+    private int hash;
 
-    private Text(List<TextComponent> components) {
+    /**
+     * Creates text which takes ownership of {@code components}, which must never be changed.
+     */
+    Text(List<TextComponent> components) {
         this.components = Collections.unmodifiableList(components);
     }
 
+    /**
+     * Creates text with an immutable copy of {@code components}, immutable lists created with
+     * {@link List#of()} or {@link List#copyOf(java.util.Collection)} are not copied.
+     *
+     * @param components Components of text, without null elements.
+     * @return Text of {@code components}.
+     */
     public static Text ofUncompressed(List<TextComponent> components) {
-        return new Text(components);
+        return new Text(List.copyOf(components));
     }
 
     public static Text ofUncompressed(Object... objects) {
@@ -79,14 +91,14 @@ public final class Text implements Iterable<TextComponent>, TextComponent {
     public static Text of(Object first) {
         List<TextComponent> componentList = new ArrayList<>();
         componentList.add(Text.single(first));
-        return Text.compress(Text.ofUncompressed(componentList));
+        return Text.compress(new Text(componentList));
     }
 
     public static Text of(Object first, Object second) {
         List<TextComponent> componentList = new ArrayList<>();
         componentList.add(Text.single(first));
         componentList.add(Text.single(second));
-        return Text.compress(Text.ofUncompressed(componentList));
+        return Text.compress(new Text(componentList));
     }
 
     public static Text of(Object first, Object second, Object third) {
@@ -94,7 +106,7 @@ public final class Text implements Iterable<TextComponent>, TextComponent {
         componentList.add(Text.single(first));
         componentList.add(Text.single(second));
         componentList.add(Text.single(third));
-        return Text.compress(Text.ofUncompressed(componentList));
+        return Text.compress(new Text(componentList));
     }
 
     public static Text of(Object first, Object second, Object third, Object fourth) {
@@ -103,20 +115,20 @@ public final class Text implements Iterable<TextComponent>, TextComponent {
         componentList.add(Text.single(second));
         componentList.add(Text.single(third));
         componentList.add(Text.single(fourth));
-        return Text.compress(Text.ofUncompressed(componentList));
+        return Text.compress(new Text(componentList));
     }
 
     public static Text of(TextComponent first) {
         List<TextComponent> componentList = new ArrayList<>();
         componentList.add(first);
-        return Text.compress(Text.ofUncompressed(componentList));
+        return Text.compress(new Text(componentList));
     }
 
     public static Text of(TextComponent first, TextComponent second) {
         List<TextComponent> componentList = new ArrayList<>();
         componentList.add(first);
         componentList.add(second);
-        return Text.compress(Text.ofUncompressed(componentList));
+        return Text.compress(new Text(componentList));
     }
 
     public static Text of(TextComponent first, TextComponent second, TextComponent third) {
@@ -124,7 +136,7 @@ public final class Text implements Iterable<TextComponent>, TextComponent {
         componentList.add(first);
         componentList.add(second);
         componentList.add(third);
-        return Text.compress(Text.ofUncompressed(componentList));
+        return Text.compress(new Text(componentList));
     }
 
     public static Text of(TextComponent first, TextComponent second, TextComponent third, TextComponent fourth) {
@@ -133,7 +145,7 @@ public final class Text implements Iterable<TextComponent>, TextComponent {
         componentList.add(second);
         componentList.add(third);
         componentList.add(fourth);
-        return Text.compress(Text.ofUncompressed(componentList));
+        return Text.compress(new Text(componentList));
     }
 
     /**
@@ -153,6 +165,19 @@ public final class Text implements Iterable<TextComponent>, TextComponent {
         return Text.compress0(text);
     }
 
+    /**
+     * {@link #compress(Text) Compresses} {@code text} and {@link TextInterner#intern(TextComponent)
+     * interns} the result in {@code interner}, so equal fragments are shared with other texts of
+     * the same interner.
+     *
+     * @param text     Text to compress.
+     * @param interner Interner to share components.
+     * @return Compressed and interned text.
+     */
+    public static Text compress(Text text, TextInterner interner) {
+        return interner.intern(Text.compress0(text));
+    }
+
     private static Text compress0(Text text) {
         List<TextComponent> compressed = new ArrayList<>();
 
@@ -354,15 +379,26 @@ public final class Text implements Iterable<TextComponent>, TextComponent {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this)
+            return true;
+
         if (obj instanceof Text)
-            return Objects.equals(((Text) obj).getComponents(), this.getComponents());
+            return obj.hashCode() == this.hashCode()
+                    && Objects.equals(((Text) obj).getComponents(), this.getComponents());
 
         return super.equals(obj);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.getComponents());
+        int hash = this.hash;
+
+        if (hash == 0) {
+            hash = Objects.hash(this.getComponents());
+            this.hash = hash;
+        }
+
+        return hash;
     }
 
     @Override
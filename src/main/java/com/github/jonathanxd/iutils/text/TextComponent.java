@@ -111,6 +111,6 @@ public interface TextComponent {
      * arguments.
      */
     default TextComponent apply(Map<String, TextComponent> args) {
-        return new ArgsAppliedText(this, args);
+        return ArgsAppliedText.of(this, args);
     }
 }
@@ -0,0 +1,242 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonicalizes {@link TextComponent text components}, equal components are replaced by a single
+ * shared instance (hash-consing).
+ *
+ * Components are interned bottom-up, so components of a {@link Text} or arguments of a {@link
+ * ArgsAppliedText} are also replaced by shared instances, and equal fragments of different texts
+ * are stored only once. {@link Color Colors} and {@link Style styles} are already shared constants
+ * and are not interned, components of unknown types are returned as is.
+ *
+ * Interned components are strongly held until {@link #clear()}. This class is thread-safe.
+ *
+ * @see TextUtil#parse(CharSequence, TextInterner)
+ * @see Text#compress(Text, TextInterner)
+ */
+public final class TextInterner {
+
+    // Rough shallow sizes, assuming 12 bytes object headers and compressed references
+    private static final int REFERENCE_SIZE = 4;
+    private static final int OBJECT_SIZE = 16;
+    private static final int STRING_SIZE = 24;
+    private static final int ARRAY_SIZE = 16;
+    private static final int HASH_MAP_ENTRY_SIZE = 32;
+
+    private final Map<TextComponent, TextComponent> components = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+
+    /**
+     * Interns {@code component} and all its inner components.
+     *
+     * @param component Component to intern.
+     * @return Shared instance equal to {@code component}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends TextComponent> T intern(T component) {
+        return (T) this.intern0(component);
+    }
+
+    private TextComponent intern0(TextComponent component) {
+        if (component instanceof Text) {
+            Text text = (Text) component;
+            List<TextComponent> components = text.getComponents();
+            List<TextComponent> interned = null;
+
+            for (int i = 0; i < components.size(); i++) {
+                TextComponent textComponent = components.get(i);
+                TextComponent internedComponent = this.intern0(textComponent);
+
+                if (interned == null && internedComponent != textComponent) {
+                    interned = new ArrayList<>(components.subList(0, i));
+                }
+
+                if (interned != null)
+                    interned.add(internedComponent);
+            }
+
+            return this.canonical(interned == null ? text : new Text(interned));
+        } else if (component instanceof CapitalizeComponent) {
+            TextComponent textComponent = ((CapitalizeComponent) component).getTextComponent();
+            TextComponent interned = this.intern0(textComponent);
+
+            return this.canonical(interned == textComponent ? component : CapitalizeComponent.of(interned));
+        } else if (component instanceof DecapitalizeComponent) {
+            TextComponent textComponent = ((DecapitalizeComponent) component).getTextComponent();
+            TextComponent interned = this.intern0(textComponent);
+
+            return this.canonical(interned == textComponent ? component : DecapitalizeComponent.of(interned));
+        } else if (component instanceof ArgsAppliedText) {
+            ArgsAppliedText argsAppliedText = (ArgsAppliedText) component;
+            TextComponent textComponent = argsAppliedText.getComponent();
+            TextComponent interned = this.intern0(textComponent);
+            boolean changed = interned != textComponent;
+            Map<String, TextComponent> args = new HashMap<>(argsAppliedText.getArgs().size());
+
+            for (Map.Entry<String, TextComponent> entry : argsAppliedText.getArgs().entrySet()) {
+                TextComponent internedArg = this.intern0(entry.getValue());
+                changed |= internedArg != entry.getValue();
+                args.put(entry.getKey(), internedArg);
+            }
+
+            return this.canonical(changed ? new ArgsAppliedText(interned, Collections.unmodifiableMap(args)) : component);
+        } else if (component instanceof MapLocalizedText) {
+            MapLocalizedText mapLocalizedText = (MapLocalizedText) component;
+            LocalizableComponent localizableComponent = mapLocalizedText.getLocalizableComponent();
+            LocalizableComponent interned = this.intern(localizableComponent);
+
+            return this.canonical(interned == localizableComponent
+                    ? component
+                    : new MapLocalizedText(interned, mapLocalizedText.getOperator()));
+        } else if (component instanceof StringComponent
+                || component instanceof VariableComponent
+                || component instanceof LocalizableComponent) {
+            return this.canonical(component);
+        }
+
+        return component;
+    }
+
+    private TextComponent canonical(TextComponent component) {
+        this.requests.increment();
+
+        TextComponent canonical = this.components.putIfAbsent(component, component);
+
+        if (canonical == null)
+            return component;
+
+        if (canonical != component) {
+            this.duplicates.increment();
+            this.savedBytes.add(TextInterner.shallowSize(component));
+        }
+
+        return canonical;
+    }
+
+    /**
+     * Estimates the memory retained only by {@code component}, inner components are not included
+     * as they are accounted separately.
+     */
+    private static long shallowSize(TextComponent component) {
+        if (component instanceof StringComponent)
+            return OBJECT_SIZE + TextInterner.stringSize(((StringComponent) component).getText());
+
+        if (component instanceof VariableComponent)
+            return OBJECT_SIZE + TextInterner.stringSize(((VariableComponent) component).getVariable());
+
+        if (component instanceof LocalizableComponent)
+            return OBJECT_SIZE + TextInterner.stringSize(((LocalizableComponent) component).getLocalization());
+
+        if (component instanceof Text) {
+            // Text, unmodifiable wrapper and backing list
+            int size = ((Text) component).getComponents().size();
+            return OBJECT_SIZE * 3 + ARRAY_SIZE + (long) size * REFERENCE_SIZE;
+        }
+
+        if (component instanceof ArgsAppliedText) {
+            int size = ((ArgsAppliedText) component).getArgs().size();
+            return OBJECT_SIZE * 4 + ARRAY_SIZE + (long) size * (HASH_MAP_ENTRY_SIZE + REFERENCE_SIZE);
+        }
+
+        return OBJECT_SIZE;
+    }
+
+    private static long stringSize(String string) {
+        return STRING_SIZE + ARRAY_SIZE + string.length();
+    }
+
+    /**
+     * Gets the amount of distinct interned components.
+     *
+     * @return Amount of distinct interned components.
+     */
+    public int size() {
+        return this.components.size();
+    }
+
+    /**
+     * Gets the amount of components passed through this interner, including inner components.
+     *
+     * @return Amount of components passed through this interner.
+     */
+    public long getRequestCount() {
+        return this.requests.sum();
+    }
+
+    /**
+     * Gets the amount of components which were replaced by an equal shared instance.
+     *
+     * @return Amount of deduplicated components.
+     */
+    public long getDuplicateCount() {
+        return this.duplicates.sum();
+    }
+
+    /**
+     * Gets an estimate of the bytes saved by replacing components with shared instances. The
+     * estimate assumes a 64-bit VM with compressed references and latin-1 strings, and only
+     * counts memory that becomes unreachable if the replaced components are not referenced
+     * elsewhere.
+     *
+     * @return Estimate of bytes saved by deduplication.
+     */
+    public long getEstimatedSavedBytes() {
+        return this.savedBytes.sum();
+    }
+
+    /**
+     * Removes all interned components and resets statistics.
+     */
+    public void clear() {
+        this.components.clear();
+        this.requests.reset();
+        this.duplicates.reset();
+        this.savedBytes.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "TextInterner[size=" + this.size()
+                + ", requests=" + this.getRequestCount()
+                + ", duplicates=" + this.getDuplicateCount()
+                + ", estimatedSavedBytes=" + this.getEstimatedSavedBytes()
+                + "]";
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least-recently-used cache of {@link TextUtil#parse(String) parsed} texts.
+ *
+ * Parsing is done outside of the cache lock, so concurrent misses of the same source may parse it
+ * more than once, but always produce equal components. {@link TextComponent Text components} are
+ * immutable, so cached components are safely shared.
+ */
+public final class TextParseCache {
+    private final int maximumSize;
+    private final Map<String, TextComponent> cache;
+
+    /**
+     * Creates a cache which holds at most {@code maximumSize} parsed texts.
+     *
+     * @param maximumSize Maximum amount of parsed texts to hold.
+     */
+    public TextParseCache(int maximumSize) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize + ".");
+
+        this.maximumSize = maximumSize;
+        this.cache = new LinkedHashMap<String, TextComponent>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TextComponent> eldest) {
+                return this.size() > TextParseCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Parses {@code receiver}, or returns the cached component of a previous parse of an equal
+     * source.
+     *
+     * @param receiver String to parse.
+     * @return Component.
+     * @see TextUtil#parse(String)
+     */
+    public TextComponent parse(String receiver) {
+        TextComponent component;
+
+        synchronized (this.cache) {
+            component = this.cache.get(receiver);
+        }
+
+        if (component == null) {
+            component = TextUtil.parse(receiver);
+
+            synchronized (this.cache) {
+                this.cache.put(receiver, component);
+            }
+        }
+
+        return component;
+    }
+
+    /**
+     * Gets the maximum amount of parsed texts held by this cache.
+     *
+     * @return Maximum amount of parsed texts held by this cache.
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Gets the amount of parsed texts currently held by this cache.
+     *
+     * @return Amount of parsed texts currently held by this cache.
+     */
+    public int size() {
+        synchronized (this.cache) {
+            return this.cache.size();
+        }
+    }
+
+    /**
+     * Removes all parsed texts from this cache.
+     */
+    public void clear() {
+        synchronized (this.cache) {
+            this.cache.clear();
+        }
+    }
+}
@@ -37,11 +37,11 @@ import com.github.jonathanxd.iutils.type.Primitive;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
 
 /**
  * Parsers localization value into {@link TextComponent}.
@@ -54,6 +54,18 @@ public class TextUtil {
     private static final int LOCALIZABLE = 1;
     private static final int COLOR_OR_STYLE = 2;
 
+    // Lexer tables of ASCII characters, other characters are SINGLE and resolved through Character
+    private static final int CHAR_TABLE_SIZE = 128;
+    private static final int[] TOKENS = new int[CHAR_TABLE_SIZE];
+    private static final boolean[] IDENTIFIERS = new boolean[CHAR_TABLE_SIZE];
+
+    static {
+        for (char c = 0; c < CHAR_TABLE_SIZE; c++) {
+            TOKENS[c] = c == '$' ? VARIABLE : c == '#' ? LOCALIZABLE : c == '&' ? COLOR_OR_STYLE : SINGLE;
+            IDENTIFIERS[c] = Character.isUnicodeIdentifierPart(c) && c != '$' && c != '#' && c != '&';
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public static Map<String, List<TextComponent>> parseMap(String receiver) {
         receiver = receiver.replace("\n", ",");
@@ -141,20 +153,28 @@ public class TextUtil {
      * @return Component.
      */
     public static TextComponent parse(String receiver) {
+        return TextUtil.parse((CharSequence) receiver);
+    }
+
+    /**
+     * Parses {@link TextComponent} from {@code receiver}, see {@link #parse(String)}.
+     *
+     * Characters are read directly from {@code receiver}, without copying it.
+     *
+     * @param receiver Char sequence to parse.
+     * @return Component.
+     * @see TextParseCache
+     */
+    public static TextComponent parse(CharSequence receiver) {
         List<TextComponent> components = new ArrayList<>();
-        char[] chars = receiver.toCharArray();
+        StringBuilder stringBuilder = new StringBuilder();
         boolean lastIsEscape = false;
-        boolean isVar = false;
-        boolean isLocalizable = false;
-        boolean isColorOrStyle = false;
         boolean isOpenTag = false;
-        StringBuilder stringBuilder = new StringBuilder();
-        Consumer<String> addVar = s -> components.add(Text.variable(s));
-        Consumer<String> addLocalizable = s -> components.add(Text.localizable(s));
-        Consumer<String> addSingle = s -> components.add(Text.single(s));
-        Consumer<String> addColor = s -> components.add(ColorAndStyleTable.TABLE2.get(s.charAt(0)));
+        int currentType = SINGLE;
+
+        for (int i = 0, length = receiver.length(); i < length; i++) {
+            char aChar = receiver.charAt(i);
 
-        for (char aChar : chars) {
             if (aChar == '\\') {
                 if (lastIsEscape) {
                     stringBuilder.append(aChar);
@@ -163,87 +183,72 @@ public class TextUtil {
                     lastIsEscape = true;
                 }
             } else {
-                int component = !lastIsEscape ? (
-                        aChar == '$' ? VARIABLE : aChar == '#' ? LOCALIZABLE : aChar == '&' ? COLOR_OR_STYLE
-                                : (aChar == '}' && isOpenTag) ? TAG_CLOSE : SINGLE
-                ) : SINGLE;
-
-                int currentType = isVar ? VARIABLE : isLocalizable ? LOCALIZABLE : isColorOrStyle ? COLOR_OR_STYLE : SINGLE;
+                int component = lastIsEscape ? SINGLE
+                        : aChar == '}' ? (isOpenTag ? TAG_CLOSE : SINGLE)
+                        : aChar < CHAR_TABLE_SIZE ? TOKENS[aChar] : SINGLE;
 
                 // Process tag open
-                if (!lastIsEscape && currentType != SINGLE) {
-                    if (aChar == '{' && !isOpenTag) {
-                        isOpenTag = true;
-                        continue;
-                    }
+                if (!lastIsEscape && currentType != SINGLE && aChar == '{' && !isOpenTag) {
+                    isOpenTag = true;
+                    continue;
                 }
 
-                // If component is tag close, set openTag boolean to salfe
+                // If component is tag close, set openTag boolean to false
                 if (component == TAG_CLOSE) {
                     isOpenTag = false;
                 }
 
                 // Process last char component
                 if (component != SINGLE
-                        || ((!TextUtil.isIdentifier(aChar, currentType) && !lastIsEscape)
-                        || (currentType == COLOR_OR_STYLE && stringBuilder.length() > 0))
-                        || component == TAG_CLOSE) {
-                    String text = stringBuilder.toString();
-                    stringBuilder.setLength(0);
-
-                    if (isLocalizable) {
-                        addLocalizable.accept(text);
-                        isLocalizable = false;
-                    } else if (isVar) {
-                        addVar.accept(text);
-                        isVar = false;
-                    } else if (isColorOrStyle) {
-                        addColor.accept(text);
-                        isColorOrStyle = false;
-                    } else {
-                        addSingle.accept(text);
-                    }
+                        || (!lastIsEscape && !TextUtil.isIdentifier(aChar, currentType))
+                        || (currentType == COLOR_OR_STYLE && stringBuilder.length() > 0)) {
+                    TextUtil.addComponent(components, stringBuilder, currentType);
+                    currentType = SINGLE;
                 }
+
                 // Set current char component
-                switch (component) {
-                    case LOCALIZABLE: {
-                        isLocalizable = true;
-                        break;
-                    }
-                    case VARIABLE: {
-                        isVar = true;
-                        break;
-                    }
-                    case COLOR_OR_STYLE: {
-                        isColorOrStyle = true;
-                        break;
-                    }
-                    case TAG_CLOSE: {
-                        break;
-                    }
-                    default: {
-                        stringBuilder.append(aChar);
-                        break;
-                    }
+                if (component == LOCALIZABLE || component == VARIABLE || component == COLOR_OR_STYLE) {
+                    currentType = component;
+                } else if (component != TAG_CLOSE) {
+                    stringBuilder.append(aChar);
                 }
             }
         }
 
         if (stringBuilder.length() != 0) {
-            String text = stringBuilder.toString();
-            stringBuilder.setLength(0);
-            if (isVar) {
-                addVar.accept(text);
-            } else if (isLocalizable) {
-                addLocalizable.accept(text);
-            } else {
-                addSingle.accept(text);
-            }
+            TextUtil.addComponent(components, stringBuilder, currentType == COLOR_OR_STYLE ? SINGLE : currentType);
         }
 
         return Text.of(components);
     }
 
+    /**
+     * Parses {@link TextComponent} from {@code receiver}, see {@link #parse(String)}, and {@link
+     * TextInterner#intern(TextComponent) interns} the result in {@code interner}.
+     *
+     * @param receiver Char sequence to parse.
+     * @param interner Interner to share components.
+     * @return Interned component.
+     */
+    public static TextComponent parse(CharSequence receiver, TextInterner interner) {
+        return interner.intern(TextUtil.parse(receiver));
+    }
+
+    private static void addComponent(List<TextComponent> components, StringBuilder stringBuilder, int type) {
+        String text = stringBuilder.toString();
+        stringBuilder.setLength(0);
+
+        if (type == LOCALIZABLE) {
+            components.add(Text.localizable(text));
+        } else if (type == VARIABLE) {
+            components.add(Text.variable(text));
+        } else if (type == COLOR_OR_STYLE) {
+            components.add(ColorAndStyleTable.get(text.charAt(0)));
+        } else {
+            components.add(Text.single(text));
+        }
+    }
+
     /**
      * Creates a plain string from {@code textComponent}. Variables starts with {@code $} and
      * localizable component to {@code #}. {@link CapitalizeComponent}, {@link
@@ -325,18 +330,27 @@ public class TextUtil {
     }
 
     private static boolean isIdentifier(char ch, int type) {
-        return (Character.isUnicodeIdentifierPart(ch)
-                || (ch == '.' && type == LOCALIZABLE))
-                && (ch != '$' && ch != '#' && ch != '&');
+        if (ch < CHAR_TABLE_SIZE)
+            return IDENTIFIERS[ch] || (ch == '.' && type == LOCALIZABLE);
+
+        return Character.isUnicodeIdentifierPart(ch);
     }
 
     /**
      * Defines the correspondence between {@code &} and color and style. This is based on Minecraft
      * Color Codes and only used in String serialization of text.
+     *
+     * {@link #TABLE} and {@link #TABLE2} are unmodifiable views, new codes are registered with
+     * {@link #put(TextComponent, Character)}.
      */
     public static class ColorAndStyleTable {
-        public static Map<TextComponent, Character> TABLE = new HashMap<>();
-        public static Map<Character, TextComponent> TABLE2 = new HashMap<>();
+        private static final Map<TextComponent, Character> CODE_BY_COMPONENT = new HashMap<>();
+        private static final Map<Character, TextComponent> COMPONENT_BY_CODE = new HashMap<>();
+        // Array-indexed copy of COMPONENT_BY_CODE for ASCII codes, kept in sync by put
+        private static final TextComponent[] CODES = new TextComponent[CHAR_TABLE_SIZE];
+
+        public static final Map<TextComponent, Character> TABLE = Collections.unmodifiableMap(CODE_BY_COMPONENT);
+        public static final Map<Character, TextComponent> TABLE2 = Collections.unmodifiableMap(COMPONENT_BY_CODE);
 
         static {
             put(Colors.BLACK, '0');
@@ -366,8 +380,25 @@ public class TextUtil {
         }
 
         public static void put(TextComponent o, Character c) {
-            TABLE.put(o, c);
-            TABLE2.put(c, o);
+            CODE_BY_COMPONENT.put(o, c);
+            COMPONENT_BY_CODE.put(c, o);
+
+            if (c < CHAR_TABLE_SIZE)
+                CODES[c] = o;
+        }
+
+        /**
+         * Gets color or style of {@code c} code.
+         *
+         * @param c Code of color or style.
+         * @return Color or style of {@code c} code, or {@code null} if there is no color or style
+         * with code {@code c}.
+         */
+        public static TextComponent get(char c) {
+            if (c < CHAR_TABLE_SIZE)
+                return CODES[c];
+
+            return COMPONENT_BY_CODE.get(c);
         }
     }
 
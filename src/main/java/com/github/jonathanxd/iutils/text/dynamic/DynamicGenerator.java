@@ -39,13 +39,18 @@ import com.github.jonathanxd.iutils.text.localizer.TextLocalizer;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -56,14 +61,104 @@ public final class DynamicGenerator {
         throw new UnsupportedOperationException();
     }
 
-    @SuppressWarnings("unchecked")
+    private static final ClassValue<Implementation> IMPLEMENTATIONS = new ClassValue<Implementation>() {
+        @Override
+        protected Implementation computeValue(Class<?> type) {
+            return DynamicGenerator.implement(type);
+        }
+    };
+
+    /**
+     * Generates an implementation of {@code itf} using {@link Backend#PROXY proxy backend}.
+     *
+     * @param itf Interface to implement.
+     * @param <T> Type of interface.
+     * @return Implementation of {@code itf}.
+     */
     public static <T> T generate(Class<T> itf) {
+        return DynamicGenerator.generate(itf, Backend.PROXY);
+    }
+
+    /**
+     * Generates an implementation of {@code itf} using {@code backend}.
+     *
+     * @param itf     Interface to implement.
+     * @param backend Backend used to implement {@code itf}.
+     * @param <T>     Type of interface.
+     * @return Implementation of {@code itf}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T generate(Class<T> itf, Backend backend) {
         if (!itf.isInterface())
             throw new IllegalArgumentException("Provided class is not an interface.");
 
+        if (backend == Backend.HIDDEN_CLASS) {
+            Implementation implementation = IMPLEMENTATIONS.get(itf);
+
+            if (implementation != null)
+                return (T) implementation.create(itf);
+        }
+
         return (T) Proxy.newProxyInstance(itf.getClassLoader(), new Class[]{itf}, new Handler(itf));
     }
 
+    /**
+     * Converts the value of a method argument into a text argument.
+     *
+     * This is an internal function, used by implementations generated with {@link
+     * Backend#HIDDEN_CLASS}.
+     *
+     * @param arg Argument value.
+     * @return Text argument.
+     */
+    public static TextComponent toArgument(Object arg) {
+        if (arg instanceof TextComponent)
+            return (TextComponent) arg;
+        else if (arg instanceof String)
+            return Text.of(arg);
+        else
+            return Text.of(arg.toString());
+    }
+
+    /**
+     * Generates implementation class of {@code itf}, or returns {@code null} if {@code itf}
+     * cannot be implemented with a hidden class.
+     */
+    private static Implementation implement(Class<?> itf) {
+        Section section = itf.getDeclaredAnnotation(Section.class);
+        String defaultSection = section == null ? "" : DynamicGenerator.getSection(section.value());
+        Map<Method, MethodText> texts = DynamicGenerator.resolveTexts(defaultSection, itf);
+        List<Method> methods = new ArrayList<>();
+        List<String[]> names = new ArrayList<>();
+
+        for (Method method : itf.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()))
+                continue;
+
+            MethodText methodText = texts.get(method);
+
+            // Proxy backend returns null for other methods
+            if (methodText == null
+                    || method.getReturnType().isPrimitive()
+                    || new HashSet<>(Arrays.asList(methodText.getArgs())).size() != methodText.getArgs().length)
+                return null;
+
+            methods.add(method);
+            names.add(methodText.getArgs());
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(itf, MethodHandles.lookup());
+
+            if (!lookup.hasFullPrivilegeAccess())
+                return null;
+
+            return new Implementation(defaultSection, methods, HiddenClassGenerator.define(lookup, itf, methods, names));
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            return null;
+        }
+    }
+
     private static Map<Method, MethodText> resolveTexts(String defaultSection, Class<?> itf) {
         Map<Method, MethodText> texts = new HashMap<>();
 
@@ -147,15 +242,7 @@ public final class DynamicGenerator {
                     Map<String, TextComponent> textArgs = new HashMap<>();
 
                     for (int i = 0; i < args.length; i++) {
-                        String name = argNames[i];
-                        Object arg = args[i];
-
-                        if (arg instanceof TextComponent)
-                            textArgs.put(name, (TextComponent) arg);
-                        else if (arg instanceof String)
-                            textArgs.put(name, Text.of(arg));
-                        else
-                            textArgs.put(name, Text.of(arg.toString()));
+                        textArgs.put(argNames[i], DynamicGenerator.toArgument(args[i]));
                     }
 
                     TextComponent apply = methodText.getComponent().apply(textArgs);
@@ -168,6 +255,58 @@ public final class DynamicGenerator {
         }
     }
 
+    /**
+     * Backend used to implement {@link Section} interfaces.
+     */
+    public enum Backend {
+        /**
+         * Implements interface with a {@link Proxy}.
+         */
+        PROXY,
+
+        /**
+         * Implements interface with a generated hidden class, where each method builds its text
+         * directly from its parameters, avoiding reflective dispatch and argument boxing. The class
+         * is generated once per interface.
+         *
+         * Falls back to {@link #PROXY} when the interface cannot be implemented, which is the case
+         * when the interface has abstract methods that are not {@link Section sections} with all
+         * parameters {@link Named named} and a non-primitive return type, has repeated argument
+         * names, or when its package is not open to this library.
+         */
+        HIDDEN_CLASS
+    }
+
+    private static final class Implementation {
+        private final String defaultSection;
+        private final List<Method> methods;
+        private final MethodHandle constructor;
+
+        private Implementation(String defaultSection, List<Method> methods, MethodHandle constructor) {
+            this.defaultSection = defaultSection;
+            this.methods = methods;
+            this.constructor = constructor;
+        }
+
+        private Object create(Class<?> itf) {
+            // Texts are resolved for each instance, like the proxy backend does
+            Map<Method, MethodText> texts = DynamicGenerator.resolveTexts(this.defaultSection, itf);
+            Object[] data = new Object[this.methods.size() * 2];
+
+            for (int i = 0; i < this.methods.size(); i++) {
+                MethodText methodText = texts.get(this.methods.get(i));
+                data[i * 2] = methodText.getComponent();
+                data[i * 2 + 1] = methodText.getResolveFunc();
+            }
+
+            try {
+                return this.constructor.invoke(data);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to create implementation of '" + itf + "'.", t);
+            }
+        }
+    }
+
     private static final class MethodText {
         private final TextComponent component;
         private final String[] args;
@@ -0,0 +1,456 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.text.dynamic;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates a concrete implementation of a {@link Section} interface as a {@link
+ * MethodHandles.Lookup#defineHiddenClass(byte[], boolean, MethodHandles.Lookup.ClassOption...)
+ * hidden class}.
+ *
+ * Implementation receives an {@code Object[]} with the localizable component and the resolve
+ * function of each method, in the order of methods, and each method builds its {@link
+ * com.github.jonathanxd.iutils.text.ArgsAppliedText} directly from its parameters. Generated code
+ * has no branches, so no stack map frames are needed.
+ */
+final class HiddenClassGenerator {
+
+    private static final int VERSION = 60; // Java 16
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ILOAD = 0x15;
+    private static final int LLOAD = 0x16;
+    private static final int FLOAD = 0x17;
+    private static final int DLOAD = 0x18;
+    private static final int ALOAD = 0x19;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int AALOAD = 0x32;
+    private static final int AASTORE = 0x53;
+    private static final int DUP = 0x59;
+    private static final int RETURN = 0xb1;
+    private static final int ARETURN = 0xb0;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int INVOKEINTERFACE = 0xb9;
+    private static final int ANEWARRAY = 0xbd;
+    private static final int CHECKCAST = 0xc0;
+    private static final int WIDE = 0xc4;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    // Maximum amount of pairs of Map.of
+    private static final int MAP_OF_MAX = 10;
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String MAP = "java/util/Map";
+    private static final String MAP_ENTRY = "java/util/Map$Entry";
+    private static final String FUNCTION = "java/util/function/Function";
+    private static final String TEXT_COMPONENT = "com/github/jonathanxd/iutils/text/TextComponent";
+    private static final String ARGS_APPLIED_TEXT = "com/github/jonathanxd/iutils/text/ArgsAppliedText";
+    private static final String DYNAMIC_GENERATOR = "com/github/jonathanxd/iutils/text/dynamic/DynamicGenerator";
+    private static final String DATA = "data";
+
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(this.poolBytes);
+    private final Map<String, Integer> constants = new HashMap<>();
+    private int poolCount = 1;
+
+    private HiddenClassGenerator() {
+    }
+
+    /**
+     * Defines an implementation of {@code itf} in {@code lookup}.
+     *
+     * @param lookup  Lookup with full privilege access to package of {@code itf}.
+     * @param itf     Interface to implement.
+     * @param methods Methods to implement, in the same order as method data.
+     * @param names   Argument names of each method.
+     * @return Constructor of implementation, receiving the {@code Object[]} of method data.
+     */
+    static MethodHandle define(MethodHandles.Lookup lookup,
+                               Class<?> itf,
+                               List<Method> methods,
+                               List<String[]> names) throws IllegalAccessException, NoSuchMethodException {
+        byte[] bytes = new HiddenClassGenerator().generate(itf, methods, names);
+        MethodHandles.Lookup hidden = lookup.defineHiddenClass(bytes, true);
+
+        return hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class, Object[].class));
+    }
+
+    private byte[] generate(Class<?> itf, List<Method> methods, List<String[]> names) {
+        try {
+            String itfName = itf.getName().replace('.', '/');
+            String name = itfName + "$$Texts";
+
+            ByteArrayOutputStream methodBytes = new ByteArrayOutputStream();
+            DataOutputStream methodsOut = new DataOutputStream(methodBytes);
+
+            int thisClass = this.classConstant(name);
+            int superClass = this.classConstant(OBJECT);
+            int itfClass = this.classConstant(itfName);
+            int dataField = this.memberConstant(CONSTANT_FIELDREF, name, DATA, "[Ljava/lang/Object;");
+            int dataName = this.utf8(DATA);
+            int dataDesc = this.utf8("[Ljava/lang/Object;");
+            int codeName = this.utf8("Code");
+
+            // Constructor
+            Code init = new Code();
+            init.op(ALOAD_0);
+            init.op(INVOKESPECIAL).u2(this.memberConstant(CONSTANT_METHODREF, OBJECT, "<init>", "()V"));
+            init.op(ALOAD_0);
+            init.op(ALOAD_1);
+            init.op(PUTFIELD).u2(dataField);
+            init.op(RETURN);
+            this.writeMethod(methodsOut, codeName, "<init>", "([Ljava/lang/Object;)V", init, 2, 2);
+
+            for (int i = 0; i < methods.size(); i++) {
+                Method method = methods.get(i);
+                String[] argNames = names.get(i);
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                Code code = new Code();
+
+                // Resolve function
+                code.op(ALOAD_0);
+                code.op(GETFIELD).u2(dataField);
+                code.op(SIPUSH).u2(i * 2 + 1);
+                code.op(AALOAD);
+                code.op(CHECKCAST).u2(this.classConstant(FUNCTION));
+
+                // Localizable component
+                code.op(ALOAD_0);
+                code.op(GETFIELD).u2(dataField);
+                code.op(SIPUSH).u2(i * 2);
+                code.op(AALOAD);
+                code.op(CHECKCAST).u2(this.classConstant(TEXT_COMPONENT));
+
+                int slot = 1;
+
+                if (parameterTypes.length > 0) {
+                    boolean entries = parameterTypes.length > MAP_OF_MAX;
+
+                    if (entries) {
+                        code.op(SIPUSH).u2(parameterTypes.length);
+                        code.op(ANEWARRAY).u2(this.classConstant(MAP_ENTRY));
+                    }
+
+                    for (int j = 0; j < parameterTypes.length; j++) {
+                        if (entries) {
+                            code.op(DUP);
+                            code.op(SIPUSH).u2(j);
+                        }
+
+                        code.op(LDC_W).u2(this.stringConstant(argNames[j]));
+                        slot += this.loadArgument(code, parameterTypes[j], slot);
+
+                        if (entries) {
+                            code.op(INVOKESTATIC).u2(this.memberConstant(CONSTANT_INTERFACE_METHODREF, MAP, "entry",
+                                    "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/util/Map$Entry;"));
+                            code.op(AASTORE);
+                        }
+                    }
+
+                    if (entries) {
+                        code.op(INVOKESTATIC).u2(this.memberConstant(CONSTANT_INTERFACE_METHODREF, MAP, "ofEntries",
+                                "([Ljava/util/Map$Entry;)Ljava/util/Map;"));
+                    } else {
+                        StringBuilder desc = new StringBuilder("(");
+
+                        for (int j = 0; j < parameterTypes.length * 2; j++) {
+                            desc.append("Ljava/lang/Object;");
+                        }
+
+                        desc.append(")Ljava/util/Map;");
+
+                        code.op(INVOKESTATIC).u2(this.memberConstant(CONSTANT_INTERFACE_METHODREF, MAP, "of", desc.toString()));
+                    }
+
+                    code.op(INVOKESTATIC).u2(this.memberConstant(CONSTANT_METHODREF, ARGS_APPLIED_TEXT, "of",
+                            "(L" + TEXT_COMPONENT + ";Ljava/util/Map;)L" + ARGS_APPLIED_TEXT + ";"));
+                }
+
+                code.op(INVOKEINTERFACE).u2(this.memberConstant(CONSTANT_INTERFACE_METHODREF, FUNCTION, "apply",
+                        "(Ljava/lang/Object;)Ljava/lang/Object;")).u1(2).u1(0);
+
+                if (method.getReturnType() != Object.class)
+                    code.op(CHECKCAST).u2(this.classConstant(method.getReturnType().getName().replace('.', '/')));
+
+                code.op(ARETURN);
+
+                // Function, component, (array, array, index,) name and argument (of 2 slots)
+                int maxStack = 2 + (parameterTypes.length > MAP_OF_MAX ? 6 : parameterTypes.length * 2 + 1);
+
+                this.writeMethod(methodsOut, codeName, method.getName(),
+                        MethodType.methodType(method.getReturnType(), parameterTypes).toMethodDescriptorString(),
+                        code, maxStack, slot);
+            }
+
+            ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(classBytes);
+
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(VERSION);
+            out.writeShort(this.poolCount);
+            this.pool.flush();
+            this.poolBytes.writeTo(out);
+            out.writeShort(ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(itfClass);
+
+            // Fields
+            out.writeShort(1);
+            out.writeShort(ACC_PRIVATE | ACC_FINAL);
+            out.writeShort(dataName);
+            out.writeShort(dataDesc);
+            out.writeShort(0);
+
+            // Methods
+            out.writeShort(methods.size() + 1);
+            methodsOut.flush();
+            methodBytes.writeTo(out);
+
+            // Attributes
+            out.writeShort(0);
+            out.flush();
+
+            return classBytes.toByteArray();
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Loads argument at {@code slot} converted to {@link com.github.jonathanxd.iutils.text.TextComponent}.
+     *
+     * @return Size of argument in slots.
+     */
+    private int loadArgument(Code code, Class<?> type, int slot) {
+        String valueOf;
+        int size = 1;
+
+        if (type == long.class) {
+            code.local(LLOAD, slot);
+            valueOf = "(J)";
+            size = 2;
+        } else if (type == double.class) {
+            code.local(DLOAD, slot);
+            valueOf = "(D)";
+            size = 2;
+        } else if (type == float.class) {
+            code.local(FLOAD, slot);
+            valueOf = "(F)";
+        } else if (type == boolean.class) {
+            code.local(ILOAD, slot);
+            valueOf = "(Z)";
+        } else if (type == char.class) {
+            code.local(ILOAD, slot);
+            valueOf = "(C)";
+        } else if (type.isPrimitive()) {
+            code.local(ILOAD, slot);
+            valueOf = "(I)";
+        } else {
+            code.local(ALOAD, slot);
+            valueOf = null;
+        }
+
+        if (valueOf != null) {
+            code.op(INVOKESTATIC).u2(this.memberConstant(CONSTANT_METHODREF, "java/lang/String", "valueOf",
+                    valueOf + "Ljava/lang/String;"));
+        }
+
+        code.op(INVOKESTATIC).u2(this.memberConstant(CONSTANT_METHODREF, DYNAMIC_GENERATOR, "toArgument",
+                "(Ljava/lang/Object;)L" + TEXT_COMPONENT + ";"));
+
+        return size;
+    }
+
+    private void writeMethod(DataOutputStream out,
+                             int codeName,
+                             String name,
+                             String descriptor,
+                             Code code,
+                             int maxStack,
+                             int maxLocals) throws IOException {
+        out.writeShort(ACC_PUBLIC);
+        out.writeShort(this.utf8(name));
+        out.writeShort(this.utf8(descriptor));
+        out.writeShort(1);
+        out.writeShort(codeName);
+        out.writeInt(12 + code.bytes.size());
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.bytes.size());
+        code.bytes.writeTo(out);
+        out.writeShort(0); // Exception table
+        out.writeShort(0); // Attributes
+    }
+
+    private int utf8(String value) {
+        Integer index = this.constants.get("U" + value);
+
+        if (index != null)
+            return index;
+
+        try {
+            this.pool.writeByte(CONSTANT_UTF8);
+            this.pool.writeUTF(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return this.register("U" + value, 1);
+    }
+
+    private int classConstant(String name) {
+        return this.reference(CONSTANT_CLASS, "C" + name, this.utf8(name));
+    }
+
+    private int stringConstant(String value) {
+        return this.reference(CONSTANT_STRING, "S" + value, this.utf8(value));
+    }
+
+    private int memberConstant(int tag, String owner, String name, String descriptor) {
+        int ownerIndex = this.classConstant(owner);
+        int nameAndType = this.nameAndType(name, descriptor);
+        Integer index = this.constants.get("M" + tag + owner + "." + name + descriptor);
+
+        if (index != null)
+            return index;
+
+        try {
+            this.pool.writeByte(tag);
+            this.pool.writeShort(ownerIndex);
+            this.pool.writeShort(nameAndType);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return this.register("M" + tag + owner + "." + name + descriptor, 1);
+    }
+
+    private int nameAndType(String name, String descriptor) {
+        int nameIndex = this.utf8(name);
+        int descriptorIndex = this.utf8(descriptor);
+        Integer index = this.constants.get("N" + name + ":" + descriptor);
+
+        if (index != null)
+            return index;
+
+        try {
+            this.pool.writeByte(CONSTANT_NAME_AND_TYPE);
+            this.pool.writeShort(nameIndex);
+            this.pool.writeShort(descriptorIndex);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return this.register("N" + name + ":" + descriptor, 1);
+    }
+
+    private int reference(int tag, String key, int utf8) {
+        Integer index = this.constants.get(key);
+
+        if (index != null)
+            return index;
+
+        try {
+            this.pool.writeByte(tag);
+            this.pool.writeShort(utf8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return this.register(key, 1);
+    }
+
+    private int register(String key, int size) {
+        int index = this.poolCount;
+        this.poolCount += size;
+        this.constants.put(key, index);
+        return index;
+    }
+
+    private static final class Code {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        Code op(int opcode) {
+            this.bytes.write(opcode);
+            return this;
+        }
+
+        /**
+         * Appends local variable instruction {@code opcode} of {@code slot}, prefixed with {@code
+         * wide} if {@code slot} does not fit in one byte.
+         */
+        Code local(int opcode, int slot) {
+            if (slot > 0xff)
+                return this.op(WIDE).op(opcode).u2(slot);
+
+            return this.op(opcode).u1(slot);
+        }
+
+        Code u1(int value) {
+            this.bytes.write(value);
+            return this;
+        }
+
+        Code u2(int value) {
+            this.bytes.write(value >>> 8);
+            this.bytes.write(value);
+            return this;
+        }
+    }
+}
@@ -29,18 +29,48 @@ package com.github.jonathanxd.iutils.text.localizer;
 
 import com.github.jonathanxd.iutils.localization.Locale;
 import com.github.jonathanxd.iutils.localization.LocaleManager;
+import com.github.jonathanxd.iutils.text.ArgsAppliedText;
+import com.github.jonathanxd.iutils.text.LocalizableComponent;
+import com.github.jonathanxd.iutils.text.StringComponent;
+import com.github.jonathanxd.iutils.text.Text;
+import com.github.jonathanxd.iutils.text.TextComponent;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract text localizer.
+ *
+ * Localizations resolved through {@link #resolveLocalizations(LocalizableComponent, Locale)} are
+ * cached per localization key and locale, including localizations that fallback to current or
+ * default locale and keys that does not resolve to any localization. Cached localizations are
+ * invalidated when {@link com.github.jonathanxd.iutils.localization.LocalizationManager#getModificationCount()
+ * modification count} of any involved localization manager changes. Locales that fallback to the
+ * same localizations share them, so {@link TextLocalizer#localizeAll(TextComponent, Map, Iterable)
+ * localizing to many locales} only resolves (and pre-renders or compiles) each fallback once.
+ *
+ * Localizations that are made only of {@link StringComponent strings} (through {@link Text} and
+ * {@link ArgsAppliedText}) does not depend on arguments nor on the localizer, those localizations
+ * are rendered once when they are resolved and cached as {@link Resolved#getConstant(int)
+ * constants}, so localizers can append them at once instead of walking the component again.
+ *
+ * Localization statistics are collected when a {@link LocalizerStatistics} is {@link
+ * #setStatistics(LocalizerStatistics) set}.
  */
 public abstract class AbstractTextLocalizer implements TextLocalizer {
+    private final Map<Locale, Map<String, Resolved>> resolved = new ConcurrentHashMap<>();
     private final LocaleManager localeManager;
-    private Locale defaultLocale;
-    private Locale locale;
+    private volatile Locale defaultLocale;
+    private volatile Locale locale;
+    private volatile LocalizerStatistics statistics;
 
     public AbstractTextLocalizer(@NotNull LocaleManager localeManager,
                                  @NotNull Locale defaultLocale,
@@ -68,6 +98,7 @@ public abstract class AbstractTextLocalizer implements TextLocalizer {
         Objects.requireNonNull(locale, "Default locale cannot be null.");
         Locale old = this.defaultLocale;
         this.defaultLocale = locale;
+        this.clearLocalizationCache();
         return old;
     }
 
@@ -84,6 +115,311 @@ public abstract class AbstractTextLocalizer implements TextLocalizer {
         Objects.requireNonNull(locale, "Locale cannot be null.");
         Locale old = this.locale;
         this.locale = locale;
+        this.clearLocalizationCache();
+        return old;
+    }
+
+    /**
+     * Gets the statistics collected by this localizer.
+     *
+     * @return Statistics collected by this localizer, or {@code null} if statistics are not being
+     * collected.
+     */
+    @Nullable
+    public LocalizerStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Sets the statistics to collect localization statistics to, or {@code null} to stop collecting
+     * statistics.
+     *
+     * @param statistics Statistics to collect localization statistics to.
+     * @return Old statistics.
+     */
+    @Nullable
+    public LocalizerStatistics setStatistics(@Nullable LocalizerStatistics statistics) {
+        LocalizerStatistics old = this.statistics;
+        this.statistics = statistics;
         return old;
     }
+
+    /**
+     * Records that {@code variable} could not be resolved, if statistics are being collected.
+     *
+     * @param variable Name of the variable.
+     */
+    protected final void unresolvedVariable(@NotNull String variable) {
+        LocalizerStatistics statistics = this.statistics;
+
+        if (statistics != null)
+            statistics.recordUnresolvedVariable(variable);
+    }
+
+    /**
+     * Clears cache of resolved localizations.
+     */
+    public void clearLocalizationCache() {
+        this.resolved.clear();
+    }
+
+    /**
+     * Resolves localizations of {@code localizableComponent}. This method will first lookup for
+     * localizations in {@code locale} (or in the locale defined by component if {@code locale} is
+     * null), then in {@link #getLocale() current locale} and then in {@link #getDefaultLocale()
+     * default locale}. If no one localization is found, the {@link
+     * LocalizableComponent#getLocalization() localization key} is used as localization.
+     *
+     * @param localizableComponent Component to resolve localizations.
+     * @param locale               First locale to use to localize.
+     * @return Unmodifiable list of resolved localizations.
+     */
+    @NotNull
+    protected List<TextComponent> resolveLocalizations(@NotNull LocalizableComponent localizableComponent,
+                                                       @Nullable Locale locale) {
+        return this.resolve(localizableComponent, locale).getLocalizations();
+    }
+
+    /**
+     * Same as {@link #resolveLocalizations(LocalizableComponent, Locale)}, but returns the cached
+     * resolution, which can hold {@link Resolved#getData() data} computed from the resolved
+     * localizations for as long as they are valid.
+     *
+     * @param localizableComponent Component to resolve localizations.
+     * @param locale               First locale to use to localize.
+     * @return Resolved localizations.
+     */
+    @NotNull
+    protected final Resolved resolve(@NotNull LocalizableComponent localizableComponent,
+                                     @Nullable Locale locale) {
+        String localeStr = localizableComponent.getLocale();
+        Locale localLocale = localeStr != null
+                ? this.getLocaleManager().getRequiredLocale(localeStr)
+                : null;
+
+        Locale toUse = locale != null ? locale : localLocale != null ? localLocale : this.getLocale();
+        String key = localizableComponent.getLocalization();
+        Resolved resolved = this.resolve(key, toUse, this.getLocale(), this.getDefaultLocale(), true);
+        LocalizerStatistics statistics = this.statistics;
+
+        if (statistics != null)
+            statistics.recordResolution(toUse, key, resolved.resolution);
+
+        return resolved;
+    }
+
+    /**
+     * Resolves localizations of {@code key} in {@code toUse}. When {@code toUse} does not have
+     * localizations for {@code key}, the resolution of the next locale of the fallback chain is
+     * reused (and cached in its own slot), so locales that fallback to the same localizations share
+     * the same {@link Localizations} and the data attached to them.
+     *
+     * @param fallback Whether to fallback to current locale and then to default locale, or only to
+     *                 the localization key. Resolution of default locale does not fallback to
+     *                 current locale when reached from current locale, which does not have
+     *                 localizations for {@code key}.
+     */
+    private Resolved resolve(String key,
+                             Locale toUse,
+                             Locale current,
+                             Locale defaultLocale,
+                             boolean fallback) {
+        long toUseCount = toUse.getLocalizationManager().getModificationCount();
+        long currentCount = current.getLocalizationManager().getModificationCount();
+        long defaultCount = defaultLocale.getLocalizationManager().getModificationCount();
+
+        Map<String, Resolved> cache = this.resolved.computeIfAbsent(toUse, l -> new ConcurrentHashMap<>());
+        Resolved cached = cache.get(key);
+
+        if (cached != null
+                && cached.toUseCount == toUseCount
+                && cached.currentCount == currentCount
+                && cached.defaultCount == defaultCount)
+            return cached;
+
+        List<TextComponent> found = toUse.getLocalizationManager().getLocalizations(key);
+        Localizations localizations;
+        LocalizerStatistics.Resolution resolution;
+
+        if (!found.isEmpty()) {
+            localizations = new Localizations(Collections.unmodifiableList(found));
+            resolution = LocalizerStatistics.Resolution.HIT;
+        } else if (fallback && toUse != current) {
+            Resolved next = this.resolve(key, current, current, defaultLocale, true);
+            localizations = next.localizations;
+            resolution = next.resolution == LocalizerStatistics.Resolution.HIT
+                    ? LocalizerStatistics.Resolution.CURRENT_FALLBACK
+                    : next.resolution;
+        } else if (fallback && toUse != defaultLocale) {
+            Resolved next = this.resolve(key, defaultLocale, current, defaultLocale, false);
+            localizations = next.localizations;
+            resolution = next.resolution == LocalizerStatistics.Resolution.HIT
+                    ? LocalizerStatistics.Resolution.DEFAULT_FALLBACK
+                    : next.resolution;
+        } else {
+            localizations = new Localizations(Collections.singletonList(Text.single(key)));
+            resolution = LocalizerStatistics.Resolution.MISS;
+        }
+
+        Resolved resolved = new Resolved(localizations, resolution, toUseCount, currentCount, defaultCount);
+
+        if (toUseCount != -1 && currentCount != -1 && defaultCount != -1)
+            cache.put(key, resolved);
+
+        return resolved;
+    }
+
+    /**
+     * Resolved localizations and modification counts of localization managers used to resolve
+     * them.
+     */
+    protected static final class Resolved {
+        private final Localizations localizations;
+        private final LocalizerStatistics.Resolution resolution;
+        private final long toUseCount;
+        private final long currentCount;
+        private final long defaultCount;
+
+        Resolved(Localizations localizations,
+                 LocalizerStatistics.Resolution resolution,
+                 long toUseCount,
+                 long currentCount,
+                 long defaultCount) {
+            this.localizations = localizations;
+            this.resolution = resolution;
+            this.toUseCount = toUseCount;
+            this.currentCount = currentCount;
+            this.defaultCount = defaultCount;
+        }
+
+        /**
+         * Gets resolved localizations.
+         *
+         * @return Unmodifiable list of resolved localizations.
+         */
+        public List<TextComponent> getLocalizations() {
+            return this.localizations.components;
+        }
+
+        /**
+         * Gets how the localizations were resolved.
+         *
+         * @return How the localizations were resolved.
+         */
+        @NotNull
+        public LocalizerStatistics.Resolution getResolution() {
+            return this.resolution;
+        }
+
+        /**
+         * Gets the pre-rendered localization at {@code index}.
+         *
+         * @param index Index of the localization.
+         * @return Pre-rendered localization at {@code index}, or {@code null} if the localization
+         * is not constant.
+         */
+        @Nullable
+        public String getConstant(int index) {
+            return this.localizations.constants[index];
+        }
+
+        /**
+         * Gets all localizations pre-rendered and joined with line jumps ({@code \n}), as {@link
+         * com.github.jonathanxd.iutils.text.MapLocalizedOperators#lineJump()} does.
+         *
+         * @return All localizations pre-rendered and joined with line jumps, or {@code null} if any
+         * localization is not constant.
+         */
+        @Nullable
+        public String getConstant() {
+            return this.localizations.constant;
+        }
+
+        /**
+         * Gets the data attached by the localizer to this resolution.
+         *
+         * @return Data attached by the localizer, or {@code null} if no one data was attached.
+         */
+        public Object getData() {
+            return this.localizations.data;
+        }
+
+        /**
+         * Attaches {@code data} to this resolution, the data is shared with resolutions of other
+         * locales that fallback to the same localizations, and is discarded together with the
+         * resolution when localizations changes.
+         *
+         * @param data Data to attach.
+         */
+        public void setData(Object data) {
+            this.localizations.data = data;
+        }
+    }
+
+    /**
+     * Localizations resolved for a key, their pre-rendered constants and the data attached by the
+     * localizer, shared by all resolutions that resolve to them.
+     */
+    static final class Localizations {
+        private final List<TextComponent> components;
+        private final String[] constants;
+        private final String constant;
+        private volatile Object data;
+
+        Localizations(List<TextComponent> components) {
+            this.components = components;
+            this.constants = new String[components.size()];
+
+            StringBuilder joined = new StringBuilder();
+            boolean allConstant = true;
+
+            for (int i = 0; i < this.constants.length; i++) {
+                String rendered = Localizations.render(components.get(i));
+                this.constants[i] = rendered;
+
+                if (rendered == null) {
+                    allConstant = false;
+                } else if (allConstant) {
+                    if (i > 0)
+                        joined.append('\n');
+
+                    joined.append(rendered);
+                }
+            }
+
+            this.constant = allConstant ? joined.toString() : null;
+        }
+
+        /**
+         * Renders {@code component} if it is made only of strings.
+         *
+         * @return Rendered component, or {@code null} if the component is not constant.
+         */
+        @Nullable
+        static String render(TextComponent component) {
+            StringBuilder sb = new StringBuilder();
+            Deque<TextComponent> components = new ArrayDeque<>();
+            components.push(component);
+
+            while (!components.isEmpty()) {
+                TextComponent next = components.pop();
+
+                if (next instanceof StringComponent) {
+                    sb.append(((StringComponent) next).getText());
+                } else if (next instanceof ArgsAppliedText) { // Arguments are only used by variables
+                    components.push(((ArgsAppliedText) next).getComponent());
+                } else if (next instanceof Text) {
+                    List<TextComponent> textComponents = ((Text) next).getComponents();
+
+                    for (int i = textComponents.size() - 1; i >= 0; --i) {
+                        components.push(textComponents.get(i));
+                    }
+                } else {
+                    return null;
+                }
+            }
+
+            return sb.toString();
+        }
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.text.localizer;
+
+import java.io.IOException;
+
+/**
+ * Appendable which capitalizes or decapitalizes the first character appended after {@link #mode}
+ * is set, used to handle capitalization without localizing to intermediate strings.
+ */
+final class CaseAppendable implements Appendable {
+    static final int NORMAL = 0;
+    static final int UPPER = 1;
+    static final int LOWER = 2;
+
+    private final Appendable out;
+    int mode = NORMAL;
+
+    CaseAppendable(Appendable out) {
+        this.out = out;
+    }
+
+    @Override
+    public CaseAppendable append(CharSequence csq) throws IOException {
+        if (csq == null)
+            csq = "null";
+
+        return this.append(csq, 0, csq.length());
+    }
+
+    @Override
+    public CaseAppendable append(CharSequence csq, int start, int end) throws IOException {
+        if (csq == null)
+            csq = "null";
+
+        if (start < end && this.mode != NORMAL) {
+            this.append(csq.charAt(start));
+            ++start;
+        }
+
+        this.out.append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public CaseAppendable append(char c) throws IOException {
+        switch (this.mode) {
+            case UPPER: {
+                c = Character.toUpperCase(c);
+                break;
+            }
+            case LOWER: {
+                c = Character.toLowerCase(c);
+                break;
+            }
+        }
+
+        this.mode = NORMAL;
+        this.out.append(c);
+        return this;
+    }
+}
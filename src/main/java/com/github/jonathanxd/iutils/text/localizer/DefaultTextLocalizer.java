@@ -27,6 +27,7 @@
  */
 package com.github.jonathanxd.iutils.text.localizer;
 
+import com.github.jonathanxd.iutils.exception.RethrowException;
 import com.github.jonathanxd.iutils.localization.Locale;
 import com.github.jonathanxd.iutils.localization.LocaleManager;
 import com.github.jonathanxd.iutils.text.ArgsAppliedText;
@@ -45,7 +46,7 @@ import com.github.jonathanxd.iutils.text.VariableComponent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,15 +56,68 @@ import java.util.function.UnaryOperator;
  * Default text localizer.
  *
  * This localizer does not support colors, but can be safely extended, the localizer function is
- * {@link #localize(TextComponent, Map, Locale)}, so you can override it and handle color
+ * {@link #localize(TextComponent, Map, Locale, Appendable)}, so you can override it and handle color
  * components, falling back to {@code super} implementation when a non-color component is found. The
  * function use recursion, then color parsing through function override is safe.
+ *
+ * Subclasses written against previous versions, which override {@link #localize(TextComponent,
+ * Map, Locale)} or {@link #localize(TextComponent, Map, Locale, StringBuilder)} instead, keep
+ * working: nested components are then localized through those functions, as before, into
+ * intermediate strings. Overriding the {@link Appendable} function avoids these intermediate
+ * strings.
+ *
+ * Localizations made only of strings are appended as {@link Resolved#getConstant() pre-rendered
+ * constants}, without calling the localizer function for each of their components, unless a
+ * subclass overrides one of the localizer functions.
  */
 public class DefaultTextLocalizer extends AbstractTextLocalizer {
+
+    /**
+     * Overrides of localizer functions of each class, see {@link #LEGACY_OVERRIDE} and {@link
+     * #OVERRIDE}.
+     */
+    private static final ClassValue<Integer> OVERRIDES = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int overrides = 0;
+
+            if (DefaultTextLocalizer.isOverridden(type, StringBuilder.class)
+                    || DefaultTextLocalizer.isOverridden(type))
+                overrides |= LEGACY_OVERRIDE | OVERRIDE;
+
+            if (DefaultTextLocalizer.isOverridden(type, Appendable.class))
+                overrides |= OVERRIDE;
+
+            return overrides;
+        }
+    };
+
+    /**
+     * Set when a {@link String} or {@link StringBuilder} localizer function is overridden, nested
+     * components are then localized through them.
+     */
+    private static final int LEGACY_OVERRIDE = 1;
+
+    /**
+     * Set when any localizer function is overridden, pre-rendered constants are then not used.
+     */
+    private static final int OVERRIDE = 1 << 1;
+
+    private final int overrides;
+
+    /**
+     * Depth of nested localizations of each thread which re-enter through an overridden {@link
+     * String} or {@link StringBuilder} localizer function, {@code null} if none is overridden.
+     * Nested localizations are not measured.
+     */
+    private final ThreadLocal<int[]> legacyDepth;
+
     public DefaultTextLocalizer(@NotNull LocaleManager localeManager,
                                 @NotNull Locale defaultLocale,
                                 @NotNull Locale locale) {
         super(localeManager, defaultLocale, locale);
+        this.overrides = OVERRIDES.get(this.getClass());
+        this.legacyDepth = (this.overrides & LEGACY_OVERRIDE) != 0 ? ThreadLocal.withInitial(() -> new int[1]) : null;
     }
 
     public DefaultTextLocalizer(@NotNull LocaleManager localeManager,
@@ -85,6 +139,26 @@ public class DefaultTextLocalizer extends AbstractTextLocalizer {
                          @NotNull Map<String, TextComponent> args,
                          @Nullable Locale locale,
                          @NotNull StringBuilder sb) {
+        try {
+            this.localize(textComponent, args, locale, (Appendable) sb);
+        } catch (IOException e) {
+            throw new RethrowException(e);
+        }
+    }
+
+    @Override
+    public void localize(@NotNull TextComponent textComponent,
+                         @NotNull Map<String, TextComponent> args,
+                         @Nullable Locale locale,
+                         @NotNull Appendable out) throws IOException {
+        CaseAppendable sb = out instanceof CaseAppendable ? (CaseAppendable) out : new CaseAppendable(out);
+        // Only the outermost call is measured
+        LocalizerStatistics statistics = sb != out ? this.getStatistics() : null;
+
+        if (statistics != null && this.legacyDepth != null && this.legacyDepth.get()[0] != 0)
+            statistics = null;
+
+        long start = statistics != null ? System.nanoTime() : 0L;
 
         if (!(textComponent instanceof Color)
                 && !(textComponent instanceof Style)) {
@@ -93,22 +167,17 @@ public class DefaultTextLocalizer extends AbstractTextLocalizer {
             } else if (textComponent instanceof StringComponent) {
                 sb.append(((StringComponent) textComponent).getText());
             } else if (textComponent instanceof CapitalizeComponent) {
-                String s = this.localize(((CapitalizeComponent) textComponent).getTextComponent(), args, locale);
-                if (s.length() != 0) {
-                    sb.append(Character.toUpperCase(s.charAt(0))).append(s, 1, s.length());
-                }
+                this.localizeCase(((CapitalizeComponent) textComponent).getTextComponent(), args, locale, sb, CaseAppendable.UPPER);
             } else if (textComponent instanceof DecapitalizeComponent) {
-                String s = this.localize(((DecapitalizeComponent) textComponent).getTextComponent(), args, locale);
-                if (s.length() != 0) {
-                    sb.append(Character.toLowerCase(s.charAt(0))).append(s, 1, s.length());
-                }
+                this.localizeCase(((DecapitalizeComponent) textComponent).getTextComponent(), args, locale, sb, CaseAppendable.LOWER);
             } else if (textComponent instanceof VariableComponent) {
                 String variable = ((VariableComponent) textComponent).getVariable();
                 TextComponent component = args.get(variable);
 
                 if (component != null) {
-                    this.localize(component, args, locale, sb);
+                    this.localizeNested(component, args, locale, sb);
                 } else {
+                    this.unresolvedVariable(variable);
                     sb.append("$").append(((VariableComponent) textComponent).getVariable());
                 }
             } else if (textComponent instanceof LocalizableComponent || textComponent instanceof MapLocalizedText) {
@@ -123,51 +192,141 @@ public class DefaultTextLocalizer extends AbstractTextLocalizer {
                     operator = ((MapLocalizedText) textComponent).getOperator();
                 }
 
-                String componentLocalization = localizableComponent.getLocalization();
-
-                String localeStr = localizableComponent.getLocale();
-                Locale localLocale = localeStr != null
-                        ? this.getLocaleManager().getRequiredLocale(localeStr)
-                        : null;
-
-                Locale toUse = locale != null ? locale : localLocale != null ? localLocale : this.getLocale();
-
-                List<TextComponent> localizations =
-                        toUse.getLocalizationManager().getLocalizations(componentLocalization);
+                Resolved resolved = this.resolve(localizableComponent, locale);
+                String constant = resolved.getConstant();
 
-                Locale current = this.getLocale();
-                if (localizations.isEmpty() && toUse != current)
-                    localizations = current.getLocalizationManager().getLocalizations(componentLocalization);
+                boolean constants = (this.overrides & OVERRIDE) == 0;
 
-                if (localizations.isEmpty())
-                    localizations = this.getDefaultLocale().getLocalizationManager().getLocalizations(componentLocalization);
-
-                if (localizations.isEmpty())
-                    localizations = Collections.singletonList(Text.single(componentLocalization));
+                if (constants && constant != null && operator == MapLocalizedOperators.lineJump()) {
+                    sb.append(constant);
+                } else {
+                    List<TextComponent> localizations = resolved.getLocalizations();
+                    List<TextComponent> apply = operator.apply(localizations);
 
-                List<TextComponent> apply = operator.apply(localizations);
+                    for (TextComponent component : apply) {
+                        int index = DefaultTextLocalizer.indexOfIdentity(localizations, component);
+                        String rendered = constants && index != -1 ? resolved.getConstant(index) : null;
 
-                for (TextComponent component : apply) {
-                    this.localize(component, args, locale, sb);
+                        if (rendered != null) {
+                            sb.append(rendered);
+                        } else {
+                            this.localizeNested(component, args, locale, sb);
+                        }
+                    }
                 }
             } else if (textComponent instanceof ArgsAppliedText) {
                 ArgsAppliedText argsAppliedText = (ArgsAppliedText) textComponent;
                 Map<String, TextComponent> arguments = new HashMap<>(argsAppliedText.getArgs());
                 arguments.putAll(args);
 
-                this.localize(argsAppliedText.getComponent(), arguments, locale, sb);
+                this.localizeNested(argsAppliedText.getComponent(), arguments, locale, sb);
             } else {
                 throw new IllegalArgumentException("Invalid component '" + textComponent + "'!");
             }
         }
+
+        if (statistics != null)
+            statistics.recordLatency(System.nanoTime() - start);
+    }
+
+    /**
+     * Localizes {@code textComponent} changing the case of the first localized character to {@code
+     * mode}. When an outer component already changes the case of the first character, the outer
+     * mode is kept, as it would be applied last.
+     */
+    private void localizeCase(@NotNull TextComponent textComponent,
+                              @NotNull Map<String, TextComponent> args,
+                              @Nullable Locale locale,
+                              @NotNull CaseAppendable sb,
+                              int mode) throws IOException {
+        if (this.legacyDepth != null) {
+            String s;
+            int[] depth = this.legacyDepth.get();
+
+            ++depth[0];
+
+            try {
+                s = this.localize(textComponent, args, locale);
+            } finally {
+                --depth[0];
+            }
+
+            if (s.length() != 0) {
+                char first = s.charAt(0);
+                sb.append(mode == CaseAppendable.UPPER ? Character.toUpperCase(first) : Character.toLowerCase(first));
+                sb.append(s, 1, s.length());
+            }
+
+            return;
+        }
+
+        int previous = sb.mode;
+
+        if (previous == CaseAppendable.NORMAL)
+            sb.mode = mode;
+
+        this.localize(textComponent, args, locale, sb);
+
+        if (previous == CaseAppendable.NORMAL)
+            sb.mode = CaseAppendable.NORMAL;
+    }
+
+    /**
+     * Localizes a component nested in the component being localized. When a subclass overrides the
+     * {@link String} or {@link StringBuilder} localizer function, it is localized through the
+     * {@link StringBuilder} function, as previous versions did.
+     */
+    private void localizeNested(@NotNull TextComponent textComponent,
+                                @NotNull Map<String, TextComponent> args,
+                                @Nullable Locale locale,
+                                @NotNull CaseAppendable sb) throws IOException {
+        if (this.legacyDepth != null) {
+            StringBuilder nested = new StringBuilder();
+            int[] depth = this.legacyDepth.get();
+
+            ++depth[0];
+
+            try {
+                this.localize(textComponent, args, locale, nested);
+            } finally {
+                --depth[0];
+            }
+
+            sb.append(nested);
+        } else {
+            this.localize(textComponent, args, locale, sb);
+        }
+    }
+
+    private static boolean isOverridden(Class<?> type, Class<?>... sink) {
+        Class<?>[] parameters = new Class<?>[3 + sink.length];
+        parameters[0] = TextComponent.class;
+        parameters[1] = Map.class;
+        parameters[2] = Locale.class;
+        System.arraycopy(sink, 0, parameters, 3, sink.length);
+
+        try {
+            return type.getMethod("localize", parameters).getDeclaringClass() != DefaultTextLocalizer.class;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int indexOfIdentity(List<TextComponent> components, TextComponent component) {
+        for (int i = 0; i < components.size(); i++) {
+            if (components.get(i) == component)
+                return i;
+        }
+
+        return -1;
     }
 
     private void getTextString(@NotNull Text text,
                                @NotNull Map<String, TextComponent> variableValues,
                                @Nullable Locale locale,
-                               @NotNull StringBuilder sb) {
+                               @NotNull CaseAppendable sb) throws IOException {
         for (TextComponent textComponent : text) {
-            this.localize(textComponent, variableValues, locale, sb);
+            this.localizeNested(textComponent, variableValues, locale, sb);
         }
     }
 
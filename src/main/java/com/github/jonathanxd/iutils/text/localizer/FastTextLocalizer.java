@@ -27,11 +27,9 @@
  */
 package com.github.jonathanxd.iutils.text.localizer;
 
+import com.github.jonathanxd.iutils.exception.RethrowException;
 import com.github.jonathanxd.iutils.localization.Locale;
 import com.github.jonathanxd.iutils.localization.LocaleManager;
-import com.github.jonathanxd.iutils.recursion.Element;
-import com.github.jonathanxd.iutils.recursion.ElementUtil;
-import com.github.jonathanxd.iutils.recursion.Elements;
 import com.github.jonathanxd.iutils.text.ArgsAppliedText;
 import com.github.jonathanxd.iutils.text.CapitalizeComponent;
 import com.github.jonathanxd.iutils.text.Color;
@@ -48,8 +46,8 @@ import com.github.jonathanxd.iutils.text.VariableComponent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -60,6 +58,13 @@ import java.util.function.UnaryOperator;
  *
  * This localizer does not use recursion and is final because is not intended for inheritance. Color
  * support is available through function.
+ *
+ * Localizations are compiled into {@link TextProgram programs}, which are cached together with the
+ * resolved localizations and executed by an interpreter loop. Localizations made only of strings
+ * are not executed, their {@link Resolved#getConstant() pre-rendered constants} are appended at
+ * once. Other components are walked directly.
+ * The interpreter state is reused per thread, so after warm-up localization does not allocate
+ * anything other than the result (as long as transformers and operators does not allocate).
  */
 public final class FastTextLocalizer extends AbstractTextLocalizer {
 
@@ -68,6 +73,8 @@ public final class FastTextLocalizer extends AbstractTextLocalizer {
     static final int LOWER = 2;
     private final Function<Color, TextComponent> colorTransformer;
     private final Function<Style, TextComponent> styleTransformer;
+    private static final TextComponent LINE_JUMP = Text.single("\n");
+    private static final ThreadLocal<Context> CONTEXT = ThreadLocal.withInitial(Context::new);
     private final Function<TextComponent, TextComponent> additionalTransformer;
 
     public FastTextLocalizer(LocaleManager localeManager,
@@ -119,166 +126,374 @@ public final class FastTextLocalizer extends AbstractTextLocalizer {
                            @NotNull Map<String, TextComponent> args,
                            @Nullable Locale locale) {
         StringBuilder result = new StringBuilder();
-        this.localize(textComponent, args, locale, result);
+
+        try {
+            this.localize(textComponent, args, locale, (Appendable) result);
+        } catch (IOException e) {
+            throw new RethrowException(e);
+        }
+
         return result.toString();
     }
 
-    private void localize(TextComponent textComponent,
+    @Override
+    public void localize(@NotNull TextComponent textComponent,
+                         @NotNull Map<String, TextComponent> args,
+                         @Nullable Locale locale,
+                         @NotNull Appendable result) throws IOException {
+        Context context = FastTextLocalizer.CONTEXT.get();
+
+        if (context.busy) // Reentrant call, from a transformer for example.
+            context = new Context();
+
+        context.busy = true;
+
+        LocalizerStatistics statistics = this.getStatistics();
+        long start = statistics != null ? System.nanoTime() : 0L;
+
+        try {
+            context.push(textComponent, -1, -1);
+            this.localize(context, args, locale, result);
+        } finally {
+            context.clear();
+            context.busy = false;
+        }
+
+        if (statistics != null)
+            statistics.recordLatency(System.nanoTime() - start);
+    }
+
+    private void localize(Context context,
                           Map<String, TextComponent> args,
                           Locale locale,
-                          StringBuilder result) {
-        Elements<TextComponent> components = new Elements<>();
-        components.first = new Element<>(textComponent);
-        int nextMode = NORMAL;
-        Map<TextComponent, Map<String, TextComponent>> privateArgs = new HashMap<>();
-
-        Element<TextComponent> elem;
-        while ((elem = components.nextElement()) != null) {
-            TextComponent next = elem.value;
-
-            if (next instanceof Color) {
-                components.insert(new Element<>(this.getColorTransformer().apply((Color) next)));
-            } else if (next instanceof Style) {
-                components.insert(new Element<>(this.getStyleTransformer().apply((Style) next)));
-            } else if (next instanceof StringComponent) {
-                String s = ((StringComponent) next).getText();
-
-                if (!s.isEmpty()) {
-                    switch (nextMode) {
-                        case UPPER: {
-                            s = Character.toUpperCase(s.charAt(0)) + s.substring(1, s.length());
-                            nextMode = NORMAL;
-                            break;
-                        }
-                        case LOWER: {
-                            s = Character.toLowerCase(s.charAt(0)) + s.substring(1, s.length());
-                            nextMode = NORMAL;
-                            break;
-                        }
+                          Appendable result) throws IOException {
+        int mode = NORMAL;
+
+        while (context.frames > 0) {
+            int top = context.frames - 1;
+            Object target = context.targets[top];
+            int scope = context.scopes[top];
+
+            if (target instanceof TextProgram) {
+                TextProgram program = (TextProgram) target;
+                int pc = context.pcs[top];
+
+                if (pc == program.opcodes.length) {
+                    context.pop();
+                    continue;
+                }
+
+                context.pcs[top] = pc + 1;
+
+                Object operand = program.operands[pc];
+                Map<String, TextComponent> programArgs = program.args != null ? program.args[pc] : null;
+
+                switch (program.opcodes[pc]) {
+                    case TextProgram.APPEND: {
+                        mode = FastTextLocalizer.append((String) operand, mode, result);
+                        break;
+                    }
+                    case TextProgram.UPPER: {
+                        mode = UPPER;
+                        break;
+                    }
+                    case TextProgram.LOWER: {
+                        mode = LOWER;
+                        break;
+                    }
+                    case TextProgram.VARIABLE: {
+                        mode = this.variable((String) operand, programArgs, scope, args, mode, context, result);
+                        break;
+                    }
+                    case TextProgram.LOCALIZE: {
+                        this.localizable((TextComponent) operand, programArgs, scope, locale, context);
+                        break;
+                    }
+                    case TextProgram.COLOR: {
+                        context.push(this.getColorTransformer().apply((Color) operand), -1, -1);
+                        break;
+                    }
+                    case TextProgram.STYLE: {
+                        context.push(this.getStyleTransformer().apply((Style) operand), -1, -1);
+                        break;
+                    }
+                    default: {
+                        mode = this.other((TextComponent) operand, mode, context, result);
+                        break;
                     }
                 }
-                result.append(s);
-            } else if (next instanceof CapitalizeComponent) {
-                TextComponent component = ((CapitalizeComponent) next).getTextComponent();
+            } else if (target instanceof String) {
+                context.pop();
+                mode = FastTextLocalizer.append((String) target, mode, result);
+            } else {
+                context.pop();
+
+                TextComponent next = (TextComponent) target;
+
+                if (next instanceof Color) {
+                    context.push(this.getColorTransformer().apply((Color) next), -1, -1);
+                } else if (next instanceof Style) {
+                    context.push(this.getStyleTransformer().apply((Style) next), -1, -1);
+                } else if (next instanceof StringComponent) {
+                    mode = FastTextLocalizer.append(((StringComponent) next).getText(), mode, result);
+                } else if (next instanceof CapitalizeComponent) {
+                    context.push(((CapitalizeComponent) next).getTextComponent(), -1, scope);
+                    mode = UPPER;
+                } else if (next instanceof DecapitalizeComponent) {
+                    context.push(((DecapitalizeComponent) next).getTextComponent(), -1, scope);
+                    mode = LOWER;
+                } else if (next instanceof VariableComponent) {
+                    mode = this.variable(((VariableComponent) next).getVariable(), null, scope, args, mode, context, result);
+                } else if (next instanceof LocalizableComponent || next instanceof MapLocalizedText) {
+                    this.localizable(next, null, scope, locale, context);
+                } else if (next instanceof ArgsAppliedText) {
+                    ArgsAppliedText argsAppliedText = (ArgsAppliedText) next;
+                    context.push(argsAppliedText.getComponent(), -1, context.scope(argsAppliedText.getArgs(), scope));
+                } else if (next instanceof Text) {
+                    List<TextComponent> components = ((Text) next).getComponents();
+
+                    for (int i = components.size() - 1; i >= 0; --i) {
+                        context.push(components.get(i), -1, scope);
+                    }
+                } else {
+                    mode = this.other(next, mode, context, result);
+                }
+            }
+        }
 
-                if (privateArgs.containsKey(next))
-                    privateArgs.put(component, privateArgs.get(next));
+    }
+
+    private int variable(String variable,
+                         Map<String, TextComponent> programArgs,
+                         int scope,
+                         Map<String, TextComponent> args,
+                         int mode,
+                         Context context,
+                         Appendable result) throws IOException {
+        TextComponent component = args.get(variable);
+
+        if (component == null && programArgs != null)
+            component = programArgs.get(variable);
+
+        if (component == null)
+            component = context.lookup(scope, variable);
+
+        if (component != null) {
+            int componentScope = programArgs != null ? context.scope(programArgs, scope) : scope;
+            context.push(component, -1, componentScope); // Capitalize or decapitalize normally
+            return mode;
+        }
+
+        this.unresolvedVariable(variable);
+        mode = FastTextLocalizer.append("$", mode, result);
+        result.append(variable);
+        return mode;
+    }
 
-                components.insert(new Element<>(component));
-                nextMode = UPPER;
-            } else if (next instanceof DecapitalizeComponent) {
-                TextComponent component = ((DecapitalizeComponent) next).getTextComponent();
+    private void localizable(TextComponent next,
+                             Map<String, TextComponent> programArgs,
+                             int scope,
+                             Locale locale,
+                             Context context) {
+        LocalizableComponent localizableComponent;
+        UnaryOperator<List<TextComponent>> operator;
+
+        if (next instanceof LocalizableComponent) {
+            localizableComponent = (LocalizableComponent) next;
+            operator = MapLocalizedOperators.lineJump();
+        } else {
+            localizableComponent = ((MapLocalizedText) next).getLocalizableComponent();
+            operator = ((MapLocalizedText) next).getOperator();
+        }
 
-                if (privateArgs.containsKey(next))
-                    privateArgs.put(component, privateArgs.get(next));
+        Resolved resolved = this.resolve(localizableComponent, locale);
+        String constant = resolved.getConstant();
 
-                components.insert(new Element<>(component));
-                nextMode = LOWER;
-            } else if (next instanceof VariableComponent) {
-                String variable = ((VariableComponent) next).getVariable();
-                TextComponent component = args.get(variable);
+        if (constant != null && operator == MapLocalizedOperators.lineJump()) {
+            context.push(constant, -1, -1);
+            return;
+        }
 
-                if (component == null && privateArgs.containsKey(next))
-                    component = privateArgs.get(next).get(variable);
+        List<TextComponent> localizations = resolved.getLocalizations();
+        TextProgram[] programs = FastTextLocalizer.getPrograms(resolved);
+        int localizationScope = programArgs != null ? context.scope(programArgs, scope) : scope;
 
-                if (component != null) {
-                    if (privateArgs.containsKey(next))
-                        privateArgs.put(component, privateArgs.get(next));
+        if (operator == MapLocalizedOperators.lineJump()) {
+            for (int i = programs.length - 1; i >= 0; --i) {
+                String rendered = resolved.getConstant(i);
 
-                    components.insert(new Element<>(component)); // Capitalize or decapitalize normally
+                if (rendered != null) {
+                    context.push(rendered, -1, -1);
                 } else {
-                    components.insert(new Element<>(Text.single("$" + variable)));
+                    context.push(programs[i], 0, localizationScope);
                 }
-            } else if (next instanceof LocalizableComponent || next instanceof MapLocalizedText) {
-                LocalizableComponent localizableComponent;
-                UnaryOperator<List<TextComponent>> operator;
 
-                if (next instanceof LocalizableComponent) {
-                    localizableComponent = (LocalizableComponent) next;
-                    operator = MapLocalizedOperators.lineJump();
+                if (i > 0)
+                    context.push(FastTextLocalizer.LINE_JUMP, -1, -1);
+            }
+        } else {
+            List<TextComponent> apply = operator.apply(localizations);
+
+            for (int i = apply.size() - 1; i >= 0; --i) {
+                TextComponent component = apply.get(i);
+                int index = FastTextLocalizer.indexOfIdentity(localizations, component);
+
+                if (index != -1) {
+                    String rendered = resolved.getConstant(index);
+
+                    if (rendered != null) {
+                        context.push(rendered, -1, -1);
+                    } else {
+                        context.push(programs[index], 0, localizationScope);
+                    }
                 } else {
-                    localizableComponent = ((MapLocalizedText) next).getLocalizableComponent();
-                    operator = ((MapLocalizedText) next).getOperator();
+                    context.push(component, -1, -1);
                 }
+            }
+        }
+    }
 
-                String componentLocalization = localizableComponent.getLocalization();
-                String localeStr = localizableComponent.getLocale();
-                Locale localLocale = localeStr != null
-                        ? this.getLocaleManager().getRequiredLocale(localeStr)
-                        : null;
+    private int other(TextComponent next, int mode, Context context, Appendable result) throws IOException {
+        TextComponent apply = this.getAdditionalTransformer().apply(next);
 
-                Locale toUse = locale != null ? locale : localLocale != null ? localLocale : this.getLocale();
+        if (apply == next) { // Identity
+            return FastTextLocalizer.append(apply.toString(), mode, result);
+        }
 
-                List<TextComponent> localizations =
-                        toUse.getLocalizationManager().getLocalizations(componentLocalization);
+        context.push(apply, -1, -1);
+        return mode;
+    }
 
-                Locale current = this.getLocale();
-                if (localizations.isEmpty() && toUse != current)
-                    localizations = current.getLocalizationManager().getLocalizations(componentLocalization);
+    /**
+     * Gets compiled programs of {@code resolved} localizations, programs are compiled once and
+     * attached to the resolution.
+     */
+    private static TextProgram[] getPrograms(Resolved resolved) {
+        Object data = resolved.getData();
 
-                if (localizations.isEmpty())
-                    localizations = this.getDefaultLocale().getLocalizationManager().getLocalizations(componentLocalization);
+        if (data instanceof TextProgram[])
+            return (TextProgram[]) data;
 
-                if (localizations.isEmpty())
-                    localizations = Collections.singletonList(Text.single(componentLocalization));
+        List<TextComponent> localizations = resolved.getLocalizations();
+        TextProgram[] programs = new TextProgram[localizations.size()];
 
-                if (privateArgs.containsKey(next)) {
-                    for (TextComponent localization : localizations) {
-                        privateArgs.put(localization, privateArgs.get(next));
-                    }
-                }
+        for (int i = 0; i < programs.length; i++) {
+            programs[i] = TextProgram.compile(localizations.get(i));
+        }
+
+        resolved.setData(programs);
+        return programs;
+    }
+
+    private static int append(String s, int mode, Appendable result) throws IOException {
+        if (s.isEmpty())
+            return mode;
+
+        switch (mode) {
+            case UPPER: {
+                result.append(Character.toUpperCase(s.charAt(0))).append(s, 1, s.length());
+                break;
+            }
+            case LOWER: {
+                result.append(Character.toLowerCase(s.charAt(0))).append(s, 1, s.length());
+                break;
+            }
+            default: {
+                result.append(s);
+                break;
+            }
+        }
 
-                components.insertFromPair(ElementUtil.fromIterable(operator.apply(localizations)));
-            } else if (next instanceof ArgsAppliedText) {
-                ArgsAppliedText argsAppliedText = (ArgsAppliedText) next;
-                TextComponent component = argsAppliedText.getComponent();
-                Map<String, TextComponent> textArgs = new HashMap<>();
+        return NORMAL;
+    }
 
-                if (privateArgs.containsKey(next))
-                    textArgs.putAll(privateArgs.get(next));
+    private static int indexOfIdentity(List<TextComponent> components, TextComponent component) {
+        for (int i = 0; i < components.size(); i++) {
+            if (components.get(i) == component)
+                return i;
+        }
 
-                textArgs.putAll(argsAppliedText.getArgs());
+        return -1;
+    }
 
-                privateArgs.put(component, textArgs);
-                components.insert(new Element<>(component));
-            } else if (next instanceof Text) {
-                Element<TextComponent> element = null;
-                Element<TextComponent> last = null;
-                Map<String, TextComponent> privateArgsF = null;
+    /**
+     * Reusable localization state of a thread: the stack of components and programs being
+     * localized and the chain of arguments applied to them. Scopes are referenced by index, {@code
+     * -1} means no scope.
+     */
+    private static final class Context {
+        private static final int INITIAL_SIZE = 16;
+
+        boolean busy;
+
+        Object[] targets = new Object[INITIAL_SIZE];
+        int[] pcs = new int[INITIAL_SIZE];
+        int[] scopes = new int[INITIAL_SIZE];
+        int frames;
+
+        Map<String, TextComponent>[] scopeArgs = FastTextLocalizer.newMapArray(INITIAL_SIZE);
+        int[] scopeParents = new int[INITIAL_SIZE];
+        int scopeCount;
+
+        /**
+         * Pushes {@code target} to be localized, {@code pc} must be {@code 0} for {@link
+         * TextProgram programs} and {@code -1} for {@link TextComponent components} and
+         * pre-rendered strings.
+         */
+        void push(Object target, int pc, int scope) {
+            if (this.frames == this.targets.length) {
+                int size = this.frames << 1;
+                this.targets = Arrays.copyOf(this.targets, size);
+                this.pcs = Arrays.copyOf(this.pcs, size);
+                this.scopes = Arrays.copyOf(this.scopes, size);
+            }
 
-                if (privateArgs.containsKey(next))
-                    privateArgsF = privateArgs.get(next);
+            this.targets[this.frames] = target;
+            this.pcs[this.frames] = pc;
+            this.scopes[this.frames] = scope;
+            ++this.frames;
+        }
 
-                for (TextComponent component : ((Text) next).getComponents()) {
-                    if (privateArgsF != null)
-                        privateArgs.put(component, privateArgsF);
+        void pop() {
+            this.targets[--this.frames] = null;
+        }
 
-                    Element<TextComponent> toSet = new Element<>(component);
-                    if (element == null) {
-                        element = toSet;
-                    } else {
-                        last.next = toSet;
-                    }
+        int scope(Map<String, TextComponent> args, int parent) {
+            if (this.scopeCount == this.scopeArgs.length) {
+                int size = this.scopeCount << 1;
+                this.scopeArgs = Arrays.copyOf(this.scopeArgs, size);
+                this.scopeParents = Arrays.copyOf(this.scopeParents, size);
+            }
 
-                    last = toSet;
-                }
+            this.scopeArgs[this.scopeCount] = args;
+            this.scopeParents[this.scopeCount] = parent;
+            return this.scopeCount++;
+        }
 
-                if (element != null) {
-                    components.insert(element, last);
-                }
-            } else {
-                TextComponent apply = this.getAdditionalTransformer().apply(next);
+        TextComponent lookup(int scope, String name) {
+            while (scope != -1) {
+                TextComponent component = this.scopeArgs[scope].get(name);
 
-                if (apply == next) { // Identity
-                    components.insert(new Element<>(Text.single(apply.toString())));
-                } else {
-                    components.insert(new Element<>(apply));
-                }
+                if (component != null)
+                    return component;
+
+                scope = this.scopeParents[scope];
             }
 
-            privateArgs.remove(next);
+            return null;
         }
 
+        void clear() {
+            Arrays.fill(this.targets, 0, this.frames, null);
+            Arrays.fill(this.scopeArgs, 0, this.scopeCount, null);
+            this.frames = 0;
+            this.scopeCount = 0;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, TextComponent>[] newMapArray(int size) {
+        return (Map<String, TextComponent>[]) new Map<?, ?>[size];
     }
 
 }
@@ -0,0 +1,443 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.text.localizer;
+
+import com.github.jonathanxd.iutils.localization.Locale;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects statistics of an {@link AbstractTextLocalizer}: how each localization key resolves in
+ * each requested locale, how many times each variable could not be resolved and how long
+ * localizations take.
+ *
+ * Statistics are only collected while {@link AbstractTextLocalizer#setStatistics(LocalizerStatistics)
+ * attached} to a localizer, a localizer without statistics does not pay anything other than a
+ * {@code null} check. Statistics are thread-safe and can be {@link #snapshot() exported} at any
+ * time.
+ */
+public final class LocalizerStatistics {
+    static final int BUCKETS = Long.SIZE;
+
+    private final Map<Locale, Map<String, LongAdder[]>> keys = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> unresolvedVariables = new ConcurrentHashMap<>();
+    private final LongAdder[] latency = LocalizerStatistics.newAdders(BUCKETS);
+    private final LongAdder latencyTotal = new LongAdder();
+
+    /**
+     * Records that {@code key} requested in {@code locale} resolved as {@code resolution}.
+     *
+     * @param locale     Requested locale.
+     * @param key        Localization key.
+     * @param resolution How the key resolved.
+     */
+    public void recordResolution(@NotNull Locale locale, @NotNull String key, @NotNull Resolution resolution) {
+        this.keys.computeIfAbsent(locale, l -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> LocalizerStatistics.newAdders(Resolution.VALUES.length))
+                [resolution.ordinal()].increment();
+    }
+
+    /**
+     * Records that {@code variable} could not be resolved and was emitted as placeholder.
+     *
+     * @param variable Name of the variable.
+     */
+    public void recordUnresolvedVariable(@NotNull String variable) {
+        this.unresolvedVariables.computeIfAbsent(variable, v -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a localization that took {@code nanos} nanoseconds.
+     *
+     * @param nanos Time taken to localize, in nanoseconds.
+     */
+    public void recordLatency(long nanos) {
+        if (nanos < 0)
+            nanos = 0;
+
+        this.latency[LocalizerStatistics.bucket(nanos)].increment();
+        this.latencyTotal.add(nanos);
+    }
+
+    /**
+     * Clears all statistics.
+     */
+    public void reset() {
+        this.keys.clear();
+        this.unresolvedVariables.clear();
+
+        for (LongAdder adder : this.latency) {
+            adder.reset();
+        }
+
+        this.latencyTotal.reset();
+    }
+
+    /**
+     * Creates an immutable snapshot of current statistics. Statistics recorded concurrently may or
+     * may not be included in the snapshot.
+     *
+     * @return Snapshot of current statistics.
+     */
+    @NotNull
+    public Snapshot snapshot() {
+        List<KeyStatistics> keys = new ArrayList<>();
+
+        this.keys.forEach((locale, localeKeys) -> localeKeys.forEach((key, adders) -> {
+            long[] counts = new long[adders.length];
+
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = adders[i].sum();
+            }
+
+            keys.add(new KeyStatistics(locale, key, counts));
+        }));
+
+        Map<String, Long> unresolvedVariables = new HashMap<>();
+        this.unresolvedVariables.forEach((variable, adder) -> unresolvedVariables.put(variable, adder.sum()));
+
+        long[] buckets = new long[BUCKETS];
+
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = this.latency[i].sum();
+        }
+
+        return new Snapshot(Collections.unmodifiableList(keys),
+                Collections.unmodifiableMap(unresolvedVariables),
+                new LatencyHistogram(buckets, this.latencyTotal.sum()));
+    }
+
+    /**
+     * Gets the histogram bucket of {@code nanos}, bucket {@code i} holds durations in range {@code
+     * [2^i, 2^(i+1))}, bucket {@code 0} also holds {@code 0}.
+     */
+    static int bucket(long nanos) {
+        return nanos == 0 ? 0 : (Long.SIZE - 1) - Long.numberOfLeadingZeros(nanos);
+    }
+
+    private static LongAdder[] newAdders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+
+        return adders;
+    }
+
+    /**
+     * How a localization key resolved in the requested locale.
+     */
+    public enum Resolution {
+        /**
+         * Key resolved in requested locale.
+         */
+        HIT,
+
+        /**
+         * Key is missing in requested locale and resolved in {@link AbstractTextLocalizer#getLocale()
+         * current locale}.
+         */
+        CURRENT_FALLBACK,
+
+        /**
+         * Key is missing in requested and current locales, and resolved in {@link
+         * AbstractTextLocalizer#getDefaultLocale() default locale}.
+         */
+        DEFAULT_FALLBACK,
+
+        /**
+         * Key is missing in all locales and the key itself was used as localization.
+         */
+        MISS;
+
+        static final Resolution[] VALUES = Resolution.values();
+    }
+
+    /**
+     * Immutable snapshot of {@link LocalizerStatistics}.
+     */
+    public static final class Snapshot {
+        private final List<KeyStatistics> keys;
+        private final Map<String, Long> unresolvedVariables;
+        private final LatencyHistogram latency;
+
+        Snapshot(List<KeyStatistics> keys, Map<String, Long> unresolvedVariables, LatencyHistogram latency) {
+            this.keys = keys;
+            this.unresolvedVariables = unresolvedVariables;
+            this.latency = latency;
+        }
+
+        /**
+         * Gets statistics of each key requested in each locale.
+         *
+         * @return Unmodifiable list with statistics of each key requested in each locale.
+         */
+        @NotNull
+        public List<KeyStatistics> getKeys() {
+            return this.keys;
+        }
+
+        /**
+         * Gets the amount of times that each variable could not be resolved.
+         *
+         * @return Unmodifiable map of variable name to the amount of times that it could not be
+         * resolved.
+         */
+        @NotNull
+        public Map<String, Long> getUnresolvedVariables() {
+            return this.unresolvedVariables;
+        }
+
+        /**
+         * Gets the histogram of localization latency.
+         *
+         * @return Histogram of localization latency.
+         */
+        @NotNull
+        public LatencyHistogram getLatency() {
+            return this.latency;
+        }
+
+        @Override
+        public String toString() {
+            return "LocalizerStatistics.Snapshot[keys=" + this.keys
+                    + ", unresolvedVariables=" + this.unresolvedVariables
+                    + ", latency=" + this.latency
+                    + "]";
+        }
+    }
+
+    /**
+     * Resolution counters of a key requested in a locale.
+     */
+    public static final class KeyStatistics {
+        private final Locale locale;
+        private final String key;
+        private final long[] counts;
+
+        KeyStatistics(Locale locale, String key, long[] counts) {
+            this.locale = locale;
+            this.key = key;
+            this.counts = counts;
+        }
+
+        /**
+         * Gets the requested locale.
+         *
+         * @return Requested locale.
+         */
+        @NotNull
+        public Locale getLocale() {
+            return this.locale;
+        }
+
+        /**
+         * Gets the localization key.
+         *
+         * @return Localization key.
+         */
+        @NotNull
+        public String getKey() {
+            return this.key;
+        }
+
+        /**
+         * Gets the amount of times that the key resolved as {@code resolution}.
+         *
+         * @param resolution Resolution.
+         * @return Amount of times that the key resolved as {@code resolution}.
+         */
+        public long getCount(@NotNull Resolution resolution) {
+            return this.counts[resolution.ordinal()];
+        }
+
+        /**
+         * Gets the amount of times that the key resolved in requested locale.
+         *
+         * @return Amount of times that the key resolved in requested locale.
+         */
+        public long getHits() {
+            return this.getCount(Resolution.HIT);
+        }
+
+        /**
+         * Gets the amount of times that the key fallback to current or default locale.
+         *
+         * @return Amount of times that the key fallback to current or default locale.
+         */
+        public long getFallbacks() {
+            return this.getCount(Resolution.CURRENT_FALLBACK) + this.getCount(Resolution.DEFAULT_FALLBACK);
+        }
+
+        /**
+         * Gets the amount of times that the key was not found in any locale.
+         *
+         * @return Amount of times that the key was not found in any locale.
+         */
+        public long getMisses() {
+            return this.getCount(Resolution.MISS);
+        }
+
+        /**
+         * Gets the amount of times that the key was requested.
+         *
+         * @return Amount of times that the key was requested.
+         */
+        public long getTotal() {
+            long total = 0;
+
+            for (long count : this.counts) {
+                total += count;
+            }
+
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            return "KeyStatistics[locale=" + this.locale.getName()
+                    + ", key=" + this.key
+                    + ", hits=" + this.getHits()
+                    + ", currentFallbacks=" + this.getCount(Resolution.CURRENT_FALLBACK)
+                    + ", defaultFallbacks=" + this.getCount(Resolution.DEFAULT_FALLBACK)
+                    + ", misses=" + this.getMisses()
+                    + "]";
+        }
+    }
+
+    /**
+     * Histogram of localization latency with power of two buckets.
+     */
+    public static final class LatencyHistogram {
+        private final long[] buckets;
+        private final long totalNanos;
+        private final long count;
+
+        LatencyHistogram(long[] buckets, long totalNanos) {
+            this.buckets = buckets;
+            this.totalNanos = totalNanos;
+
+            long count = 0;
+
+            for (long bucket : buckets) {
+                count += bucket;
+            }
+
+            this.count = count;
+        }
+
+        /**
+         * Gets the amount of localizations.
+         *
+         * @return Amount of localizations.
+         */
+        public long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Gets the total time taken by localizations, in nanoseconds.
+         *
+         * @return Total time taken by localizations, in nanoseconds.
+         */
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        /**
+         * Gets the mean time taken by localizations.
+         *
+         * @return Mean time taken by localizations, or {@link Duration#ZERO} if there is no one
+         * localization.
+         */
+        @NotNull
+        public Duration getMean() {
+            return this.count == 0 ? Duration.ZERO : Duration.ofNanos(this.totalNanos / this.count);
+        }
+
+        /**
+         * Gets the amount of localizations of each bucket, bucket {@code i} holds localizations
+         * that took from {@code 2^i} (inclusive) to {@code 2^(i+1)} (exclusive) nanoseconds.
+         *
+         * @return Copy of the amount of localizations of each bucket.
+         */
+        @NotNull
+        public long[] getBuckets() {
+            return this.buckets.clone();
+        }
+
+        /**
+         * Gets an upper bound of the time taken by {@code percentile} of the localizations, for
+         * example, {@code 0.99} returns the upper bound of the bucket that holds the 99th
+         * percentile.
+         *
+         * @param percentile Percentile, from {@code 0} to {@code 1}.
+         * @return Upper bound of the time taken by {@code percentile} of the localizations, or
+         * {@link Duration#ZERO} if there is no one localization.
+         */
+        @NotNull
+        public Duration getPercentile(double percentile) {
+            if (percentile < 0 || percentile > 1)
+                throw new IllegalArgumentException("Percentile must be between 0 and 1.");
+
+            if (this.count == 0)
+                return Duration.ZERO;
+
+            long target = Math.max(1, (long) Math.ceil(percentile * this.count));
+            long accumulated = 0;
+
+            for (int i = 0; i < this.buckets.length; i++) {
+                accumulated += this.buckets[i];
+
+                if (accumulated >= target)
+                    return Duration.ofNanos(i >= Long.SIZE - 2 ? Long.MAX_VALUE : (1L << (i + 1)) - 1);
+            }
+
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+
+        @Override
+        public String toString() {
+            return "LatencyHistogram[count=" + this.count
+                    + ", mean=" + this.getMean()
+                    + ", p50=" + this.getPercentile(0.5)
+                    + ", p99=" + this.getPercentile(0.99)
+                    + "]";
+        }
+    }
+}
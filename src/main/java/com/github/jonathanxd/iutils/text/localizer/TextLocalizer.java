@@ -27,6 +27,8 @@
  */
 package com.github.jonathanxd.iutils.text.localizer;
 
+import com.github.jonathanxd.iutils.exception.RethrowException;
+import com.github.jonathanxd.iutils.io.Utf8ByteBufferAppendable;
 import com.github.jonathanxd.iutils.localization.Locale;
 import com.github.jonathanxd.iutils.localization.LocaleManager;
 import com.github.jonathanxd.iutils.text.TextComponent;
@@ -34,10 +36,16 @@ import com.github.jonathanxd.iutils.text.TextComponent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * Converts text into string.
@@ -171,6 +179,132 @@ public interface TextLocalizer extends Localizer {
     @NotNull
     String localize(@NotNull TextComponent textComponent, @NotNull Map<String, TextComponent> args, @Nullable Locale locale);
 
+    /**
+     * Localizes {@code textComponent} to {@code locale} and appends the result to {@code out}.
+     *
+     * Implementations may stream the result directly to {@code out}, without creating
+     * intermediate strings. Any {@link Appendable} may be used, including {@link
+     * java.nio.CharBuffer}.
+     *
+     * @param textComponent Text component.
+     * @param args          Values of text variables.
+     * @param locale        Locale to be used to localize text.
+     * @param out           Appendable to append localized text.
+     * @throws IOException If {@code out} fails to append text.
+     * @see #localize(TextComponent, Map, Locale)
+     */
+    default void localize(@NotNull TextComponent textComponent,
+                          @NotNull Map<String, TextComponent> args,
+                          @Nullable Locale locale,
+                          @NotNull Appendable out) throws IOException {
+        out.append(this.localize(textComponent, args, locale));
+    }
+
+    /**
+     * Localizes {@code textComponent} to {@code locale} and encodes the result as {@code UTF-8}
+     * directly into {@code out}.
+     *
+     * @param textComponent Text component.
+     * @param args          Values of text variables.
+     * @param locale        Locale to be used to localize text.
+     * @param out           Buffer to put encoded text.
+     * @throws java.nio.BufferOverflowException If {@code out} does not have enough space.
+     * @see #localize(TextComponent, Map, Locale)
+     */
+    default void localize(@NotNull TextComponent textComponent,
+                          @NotNull Map<String, TextComponent> args,
+                          @Nullable Locale locale,
+                          @NotNull ByteBuffer out) {
+        Utf8ByteBufferAppendable appendable = new Utf8ByteBufferAppendable(out);
+
+        try {
+            this.localize(textComponent, args, locale, appendable);
+        } catch (IOException e) {
+            throw new RethrowException(e);
+        }
+
+        appendable.finish();
+    }
+
+    /**
+     * Localizes {@code textComponent} to each distinct locale of {@code locales}. The text is
+     * localized only once for each locale, regardless of how many times the locale occurs in
+     * {@code locales}.
+     *
+     * @param textComponent Text component.
+     * @param args          Values of text variables.
+     * @param locales       Locales to localize text to.
+     * @return Map of each distinct locale to the localized text, in encounter order.
+     * @see #localize(TextComponent, Map, Locale)
+     */
+    @NotNull
+    default Map<Locale, String> localizeAll(@NotNull TextComponent textComponent,
+                                            @NotNull Map<String, TextComponent> args,
+                                            @NotNull Iterable<? extends Locale> locales) {
+        Map<Locale, String> localized = new LinkedHashMap<>();
+
+        for (Locale locale : locales) {
+            Objects.requireNonNull(locale, "Locale cannot be null.");
+
+            if (!localized.containsKey(locale))
+                localized.put(locale, this.localize(textComponent, args, locale));
+        }
+
+        return localized;
+    }
+
+    /**
+     * Localizes {@code textComponent} to each distinct locale of {@code locales}.
+     *
+     * @param textComponent Text component.
+     * @param locales       Locales to localize text to.
+     * @return Map of each distinct locale to the localized text, in encounter order.
+     * @see #localizeAll(TextComponent, Map, Iterable)
+     */
+    @NotNull
+    default Map<Locale, String> localizeAll(@NotNull TextComponent textComponent,
+                                            @NotNull Iterable<? extends Locale> locales) {
+        return this.localizeAll(textComponent, Collections.emptyMap(), locales);
+    }
+
+    /**
+     * Localizes {@code textComponent} to the locale of each recipient of {@code recipients} and
+     * calls {@code consumer} with the recipient and the text localized to its locale. The text is
+     * localized only once for each distinct locale and the same string is delivered to all
+     * recipients that use the locale.
+     *
+     * @param textComponent  Text component.
+     * @param args           Values of text variables.
+     * @param recipients     Recipients of localized text.
+     * @param localeFunction Function which determines the locale of a recipient.
+     * @param consumer       Consumer of recipients and their localized text.
+     * @param <R>            Recipient type.
+     * @return Map of each distinct locale to the localized text, in encounter order.
+     * @see #localizeAll(TextComponent, Map, Iterable)
+     */
+    @NotNull
+    default <R> Map<Locale, String> localizeAll(@NotNull TextComponent textComponent,
+                                                @NotNull Map<String, TextComponent> args,
+                                                @NotNull Iterable<? extends R> recipients,
+                                                @NotNull Function<? super R, ? extends Locale> localeFunction,
+                                                @NotNull BiConsumer<? super R, ? super String> consumer) {
+        Map<Locale, String> localized = new LinkedHashMap<>();
+
+        for (R recipient : recipients) {
+            Locale locale = Objects.requireNonNull(localeFunction.apply(recipient), "Locale cannot be null.");
+            String text = localized.get(locale);
+
+            if (text == null) {
+                text = this.localize(textComponent, args, locale);
+                localized.put(locale, text);
+            }
+
+            consumer.accept(recipient, text);
+        }
+
+        return localized;
+    }
+
     /**
      * Localizes {@code textComponent} to {@link #getLocale() current locale}.
      *
@@ -0,0 +1,237 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils.text.localizer;
+
+import com.github.jonathanxd.iutils.text.ArgsAppliedText;
+import com.github.jonathanxd.iutils.text.CapitalizeComponent;
+import com.github.jonathanxd.iutils.text.Color;
+import com.github.jonathanxd.iutils.text.DecapitalizeComponent;
+import com.github.jonathanxd.iutils.text.LocalizableComponent;
+import com.github.jonathanxd.iutils.text.MapLocalizedText;
+import com.github.jonathanxd.iutils.text.StringComponent;
+import com.github.jonathanxd.iutils.text.Style;
+import com.github.jonathanxd.iutils.text.Text;
+import com.github.jonathanxd.iutils.text.TextComponent;
+import com.github.jonathanxd.iutils.text.VariableComponent;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flat and immutable instruction program compiled from a {@link TextComponent}.
+ *
+ * Compilation resolves the structure of the component graph ({@link Text}, {@link ArgsAppliedText},
+ * {@link CapitalizeComponent} and {@link DecapitalizeComponent}) once, leaving only the parts that
+ * depends on localization state as instructions: {@link VariableComponent variables}, {@link
+ * LocalizableComponent localizable components} and components that must be transformed by the
+ * localizer ({@link Color colors}, {@link Style styles} and unknown components).
+ *
+ * Arguments applied through {@link ArgsAppliedText} are merged at compile time and attached to
+ * every instruction that may need them.
+ */
+public final class TextProgram {
+
+    /**
+     * Appends {@link #operands operand} string.
+     */
+    static final byte APPEND = 0;
+
+    /**
+     * Capitalizes next non-empty appended string.
+     */
+    static final byte UPPER = 1;
+
+    /**
+     * Decapitalizes next non-empty appended string.
+     */
+    static final byte LOWER = 2;
+
+    /**
+     * Resolves variable named by {@link #operands operand}.
+     */
+    static final byte VARIABLE = 3;
+
+    /**
+     * Resolves localizations of {@link LocalizableComponent} or {@link MapLocalizedText} operand.
+     */
+    static final byte LOCALIZE = 4;
+
+    /**
+     * Transforms {@link Color} operand.
+     */
+    static final byte COLOR = 5;
+
+    /**
+     * Transforms {@link Style} operand.
+     */
+    static final byte STYLE = 6;
+
+    /**
+     * Transforms unknown component operand.
+     */
+    static final byte OTHER = 7;
+
+    private static final TextProgram EMPTY = new TextProgram(new byte[0], new Object[0], null);
+
+    final byte[] opcodes;
+    final Object[] operands;
+
+    /**
+     * Arguments applied to each instruction, or {@code null} if no one instruction has arguments
+     * applied.
+     */
+    final Map<String, TextComponent>[] args;
+
+    private TextProgram(byte[] opcodes, Object[] operands, Map<String, TextComponent>[] args) {
+        this.opcodes = opcodes;
+        this.operands = operands;
+        this.args = args;
+    }
+
+    /**
+     * Compiles {@code textComponent} into a program.
+     *
+     * @param textComponent Component to compile.
+     * @return Compiled program.
+     */
+    @SuppressWarnings("unchecked")
+    public static TextProgram compile(@NotNull TextComponent textComponent) {
+        List<Byte> opcodes = new ArrayList<>();
+        List<Object> operands = new ArrayList<>();
+        List<Map<String, TextComponent>> args = new ArrayList<>();
+        boolean hasArgs = false;
+
+        Deque<TextComponent> components = new ArrayDeque<>();
+        Deque<Map<String, TextComponent>> componentArgs = new ArrayDeque<>();
+        Map<String, TextComponent> none = Collections.emptyMap();
+
+        components.push(textComponent);
+        componentArgs.push(none);
+
+        while (!components.isEmpty()) {
+            TextComponent next = components.pop();
+            Map<String, TextComponent> nextArgs = componentArgs.pop();
+            byte op;
+            Object operand = next;
+
+            if (next instanceof Color) {
+                op = COLOR;
+            } else if (next instanceof Style) {
+                op = STYLE;
+            } else if (next instanceof StringComponent) {
+                String s = ((StringComponent) next).getText();
+
+                if (s.isEmpty())
+                    continue;
+
+                int last = opcodes.size() - 1;
+
+                if (last >= 0 && opcodes.get(last) == APPEND) {
+                    operands.set(last, operands.get(last) + s);
+                    continue;
+                }
+
+                op = APPEND;
+                operand = s;
+                nextArgs = none;
+            } else if (next instanceof CapitalizeComponent) {
+                components.push(((CapitalizeComponent) next).getTextComponent());
+                componentArgs.push(nextArgs);
+                op = UPPER;
+                operand = null;
+                nextArgs = none;
+            } else if (next instanceof DecapitalizeComponent) {
+                components.push(((DecapitalizeComponent) next).getTextComponent());
+                componentArgs.push(nextArgs);
+                op = LOWER;
+                operand = null;
+                nextArgs = none;
+            } else if (next instanceof VariableComponent) {
+                op = VARIABLE;
+                operand = ((VariableComponent) next).getVariable();
+            } else if (next instanceof LocalizableComponent || next instanceof MapLocalizedText) {
+                op = LOCALIZE;
+            } else if (next instanceof ArgsAppliedText) {
+                ArgsAppliedText argsAppliedText = (ArgsAppliedText) next;
+                Map<String, TextComponent> textArgs = new HashMap<>(nextArgs);
+                textArgs.putAll(argsAppliedText.getArgs());
+
+                components.push(argsAppliedText.getComponent());
+                componentArgs.push(Collections.unmodifiableMap(textArgs));
+                continue;
+            } else if (next instanceof Text) {
+                List<TextComponent> textComponents = ((Text) next).getComponents();
+
+                for (int i = textComponents.size() - 1; i >= 0; --i) {
+                    components.push(textComponents.get(i));
+                    componentArgs.push(nextArgs);
+                }
+                continue;
+            } else {
+                op = OTHER;
+                nextArgs = none;
+            }
+
+            if (!nextArgs.isEmpty())
+                hasArgs = true;
+
+            opcodes.add(op);
+            operands.add(operand);
+            args.add(nextArgs.isEmpty() ? null : nextArgs);
+        }
+
+        if (opcodes.isEmpty())
+            return TextProgram.EMPTY;
+
+        byte[] opcodesArray = new byte[opcodes.size()];
+
+        for (int i = 0; i < opcodesArray.length; i++) {
+            opcodesArray[i] = opcodes.get(i);
+        }
+
+        return new TextProgram(opcodesArray,
+                operands.toArray(),
+                hasArgs ? args.toArray((Map<String, TextComponent>[]) new Map<?, ?>[0]) : null);
+    }
+
+    /**
+     * Gets the amount of instructions of this program.
+     *
+     * @return Amount of instructions of this program.
+     */
+    public int size() {
+        return this.opcodes.length;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils;
+
+import com.github.jonathanxd.iutils.collection.Collections3;
+import com.github.jonathanxd.iutils.localization.ConcurrentLocaleManager;
+import com.github.jonathanxd.iutils.localization.ConcurrentLocalizationManager;
+import com.github.jonathanxd.iutils.localization.Locale;
+import com.github.jonathanxd.iutils.localization.LocaleManager;
+import com.github.jonathanxd.iutils.localization.LocalizationManager;
+import com.github.jonathanxd.iutils.text.Text;
+import com.github.jonathanxd.iutils.text.TextComponent;
+import com.github.jonathanxd.iutils.text.localizer.FastTextLocalizer;
+import com.github.jonathanxd.iutils.text.localizer.TextLocalizer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class ConcurrentLocalizationTest {
+
+    private static final int THREADS = 4;
+    private static final int REGISTRATIONS = 500;
+
+    @Test
+    public void concurrentRegisterTest() throws Exception {
+        LocalizationManager manager = new ConcurrentLocalizationManager();
+        LocaleManager localeManager = new ConcurrentLocaleManager();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    for (int i = 0; i < REGISTRATIONS; i++) {
+                        manager.registerLocalization("shared", Text.of(thread + "." + i));
+                        manager.registerLocalization("key." + thread + "." + i, Text.of(i));
+                        localeManager.registerLocale(new ConcurrentLocale(thread + "_" + i));
+                    }
+
+                    return null;
+                }));
+
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    for (int i = 0; i < REGISTRATIONS; i++) {
+                        List<TextComponent> shared = manager.getLocalizations("shared");
+
+                        if (!shared.isEmpty())
+                            Assert.assertNotNull(shared.get(shared.size() - 1));
+
+                        Locale locale = localeManager.getLocale(thread + "_" + i);
+
+                        if (locale != null)
+                            Assert.assertEquals(thread + "_" + i, locale.getName());
+                    }
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(THREADS * REGISTRATIONS, manager.getLocalizations("shared").size());
+        Assert.assertEquals(THREADS * REGISTRATIONS, new HashSet<>(manager.getLocalizations("shared")).size());
+        Assert.assertEquals(THREADS * REGISTRATIONS * 2, manager.getModificationCount());
+        Assert.assertEquals(THREADS * REGISTRATIONS, localeManager.getLocales().size());
+
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                Assert.assertEquals(Text.of(i), manager.getLocalization("key." + t + "." + i));
+                Assert.assertEquals(t + "_" + i, localeManager.getRequiredLocale(t + "_" + i).getName());
+            }
+        }
+    }
+
+    @Test
+    public void immutableSnapshotTest() {
+        LocalizationManager manager = new ConcurrentLocalizationManager();
+
+        manager.registerLocalization("greeting", Text.of("Hello"));
+
+        List<TextComponent> snapshot = manager.getLocalizations("greeting");
+
+        manager.registerLocalizations("greeting", Collections3.listOf(Text.of("Hi"), Text.of("Hey")));
+
+        Assert.assertEquals(Collections3.listOf(Text.of("Hello")), snapshot);
+        Assert.assertEquals(Collections3.listOf(Text.of("Hello"), Text.of("Hi"), Text.of("Hey")),
+                manager.getLocalizations("greeting"));
+        Assert.assertEquals(Text.of("Hey"), manager.getLocalization("greeting"));
+
+        try {
+            manager.getLocalizations("greeting").add(Text.of("Bye"));
+            Assert.fail("Snapshot must be unmodifiable.");
+        } catch (UnsupportedOperationException ignored) {
+        }
+
+        try {
+            snapshot.set(0, Text.of("Bye"));
+            Assert.fail("Snapshot must be unmodifiable.");
+        } catch (UnsupportedOperationException ignored) {
+        }
+
+        LocaleManager localeManager = new ConcurrentLocaleManager();
+        Collection<Locale> locales = localeManager.getLocales();
+
+        localeManager.registerLocale(new ConcurrentLocale("en_us"));
+
+        Assert.assertEquals(1, locales.size());
+
+        try {
+            locales.clear();
+            Assert.fail("Locales must be unmodifiable.");
+        } catch (UnsupportedOperationException ignored) {
+        }
+
+        try {
+            Iterator<Locale> iterator = locales.iterator();
+            iterator.next();
+            iterator.remove();
+            Assert.fail("Locales must be unmodifiable.");
+        } catch (UnsupportedOperationException ignored) {
+        }
+
+        Assert.assertNotNull(localeManager.getLocale("en_us"));
+    }
+
+    @Test
+    public void modificationCountTest() {
+        LocaleManager localeManager = new ConcurrentLocaleManager();
+        ConcurrentLocale enUs = new ConcurrentLocale("en_us");
+        ConcurrentLocale ptBr = new ConcurrentLocale("pt_br");
+        LocalizationManager manager = ptBr.getLocalizationManager();
+
+        localeManager.registerLocale(enUs);
+        localeManager.registerLocale(ptBr);
+
+        Assert.assertEquals(0, manager.getModificationCount());
+
+        manager.registerLocalization("bye", Text.of("Tchau"));
+        Assert.assertEquals(1, manager.getModificationCount());
+
+        manager.registerLocalizations("bye", Collections3.listOf());
+        Assert.assertEquals(1, manager.getModificationCount());
+
+        TextLocalizer localize = new FastTextLocalizer(localeManager, enUs);
+        TextComponent greeting = Text.localizable("greeting");
+
+        Assert.assertEquals("greeting", localize.localize(greeting, ptBr));
+
+        enUs.getLocalizationManager().registerLocalization("greeting", Text.of("Hello"));
+        Assert.assertEquals("Hello", localize.localize(greeting, ptBr));
+
+        long count = manager.getModificationCount();
+        manager.registerLocalization("greeting", Text.of("Oi"));
+
+        Assert.assertTrue(manager.getModificationCount() > count);
+        Assert.assertEquals("Oi", localize.localize(greeting, ptBr));
+
+        manager.registerLocalization("greeting", Text.of("Ola"));
+        Assert.assertEquals("Oi\nOla", localize.localize(greeting, ptBr));
+    }
+
+    static class ConcurrentLocale implements Locale {
+        private final String name;
+        private final LocalizationManager localizationManager = new ConcurrentLocalizationManager();
+
+        ConcurrentLocale(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public LocalizationManager getLocalizationManager() {
+            return this.localizationManager;
+        }
+    }
+}
@@ -35,11 +35,15 @@ import com.github.jonathanxd.iutils.localization.LocalizationManager;
 import com.github.jonathanxd.iutils.localization.MapLocaleManager;
 import com.github.jonathanxd.iutils.localization.MapLocalizationManager;
 import com.github.jonathanxd.iutils.map.MapUtils;
+import com.github.jonathanxd.iutils.text.ArgsAppliedText;
 import com.github.jonathanxd.iutils.text.MapLocalizedOperators;
 import com.github.jonathanxd.iutils.text.Text;
 import com.github.jonathanxd.iutils.text.TextComponent;
 import com.github.jonathanxd.iutils.text.dynamic.Resolve;
+import com.github.jonathanxd.iutils.text.localizer.AbstractTextLocalizer;
+import com.github.jonathanxd.iutils.text.localizer.DefaultTextLocalizer;
 import com.github.jonathanxd.iutils.text.localizer.FastTextLocalizer;
+import com.github.jonathanxd.iutils.text.localizer.LocalizerStatistics;
 import com.github.jonathanxd.iutils.text.localizer.TextLocalizer;
 import com.github.jonathanxd.iutils.text.dynamic.DynamicGenerator;
 import com.github.jonathanxd.iutils.text.dynamic.Section;
@@ -47,8 +51,13 @@ import com.github.jonathanxd.iutils.text.dynamic.Section;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class FastTextTest {
@@ -178,6 +187,275 @@ public class FastTextTest {
         ), localizations);
     }
 
+    @Test
+    public void repeatedVariableTest() {
+        LocaleManager localeManager = new MapLocaleManager();
+        EnUsLocale enUs = new EnUsLocale();
+
+        localeManager.registerLocale(enUs);
+
+        TextLocalizer localize = new FastTextLocalizer(localeManager, enUs);
+
+        TextComponent text = Text.of(Text.variable("name"), " and ", Text.variable("name"))
+                .apply(MapUtils.mapOf("name", Text.of("JwIUtils")));
+
+        Assert.assertEquals("JwIUtils and JwIUtils", localize.localize(text));
+        Assert.assertEquals("JwIUtils and JwIUtils", localize.localize(text));
+    }
+
+    @Test
+    public void steadyStateAllocationTest() throws Exception {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean))
+            return;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        LocaleManager localeManager = new MapLocaleManager();
+        EnUsLocale enUs = new EnUsLocale();
+
+        localeManager.registerLocale(enUs);
+
+        enUs.getLocalizationManager().registerLocalization("greeting", Text.of("Hello ", Text.variable("name"), "!"));
+        enUs.getLocalizationManager().registerLocalization("kill", Text.of("kill"));
+
+        TextLocalizer localize = new FastTextLocalizer(localeManager, enUs);
+        TextComponent text = Text.of(Text.localizable("greeting"), " ", Text.localizable("kill").capitalize(),
+                " ", Text.variable("amount")).apply(MapUtils.mapOf("name", Text.of("JwIUtils")));
+        Map<String, TextComponent> args = MapUtils.mapOf("amount", Text.of(5));
+        StringBuilder result = new StringBuilder(64);
+        int iterations = 10000;
+
+        for (int i = 0; i < iterations * 2; i++) {
+            result.setLength(0);
+            localize.localize(text, args, enUs, result);
+        }
+
+        long before = threads.getThreadAllocatedBytes(thread);
+
+        for (int i = 0; i < iterations; i++) {
+            result.setLength(0);
+            localize.localize(text, args, enUs, result);
+        }
+
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        Assert.assertEquals("Hello JwIUtils! Kill 5", result.toString());
+        Assert.assertTrue("Allocated " + allocated + " bytes in " + iterations + " calls", allocated < iterations);
+    }
+
+    @Test
+    public void resolvedLocalizationCacheTest() {
+        LocaleManager localeManager = new MapLocaleManager();
+        EnUsLocale enUs = new EnUsLocale();
+        PtBrLocale ptBr = new PtBrLocale();
+
+        localeManager.registerLocale(enUs);
+        localeManager.registerLocale(ptBr);
+
+        TextLocalizer localize = new FastTextLocalizer(localeManager, enUs);
+        TextComponent greeting = Text.localizable("greeting");
+
+        Assert.assertEquals("greeting", localize.localize(greeting, ptBr));
+
+        enUs.getLocalizationManager().registerLocalization("greeting", Text.of("Hello"));
+        Assert.assertEquals("Hello", localize.localize(greeting, ptBr));
+
+        ptBr.getLocalizationManager().registerLocalization("greeting", Text.of("Oi"));
+        Assert.assertEquals("Oi", localize.localize(greeting, ptBr));
+        Assert.assertEquals("Hello", localize.localize(greeting));
+    }
+
+    @Test
+    public void constantLocalizationTest() {
+        LocaleManager localeManager = new MapLocaleManager();
+        EnUsLocale enUs = new EnUsLocale();
+
+        localeManager.registerLocale(enUs);
+
+        LocalizationManager manager = enUs.getLocalizationManager();
+        manager.registerLocalizations("menu", Collections3.listOf(Text.of("Play"), Text.of("Quit")));
+        manager.registerLocalizations("mixed", Collections3.listOf(Text.of("Hello"), Text.of("Bye ", Text.variable("name"))));
+        manager.registerLocalization("label", Text.of("open ", Text.of("settings")));
+
+        TextLocalizer fast = new FastTextLocalizer(localeManager, enUs);
+        TextLocalizer regular = new DefaultTextLocalizer(localeManager, enUs);
+
+        List<TextComponent> texts = Collections3.listOf(
+                Text.localizable("menu"),
+                Text.localizable("mixed").apply(MapUtils.mapOf("name", Text.of("JwIUtils"))),
+                Text.capitalize(Text.localizable("label")),
+                Text.localizable("menu").mapLocalized(MapLocalizedOperators.join(Text.of(", ")))
+        );
+
+        List<String> expected = Collections3.listOf(
+                "Play\nQuit",
+                "Hello\nBye JwIUtils",
+                "Open settings",
+                "Play, Quit"
+        );
+
+        for (int i = 0; i < texts.size(); i++) {
+            Assert.assertEquals(expected.get(i), fast.localize(texts.get(i)));
+            Assert.assertEquals(expected.get(i), regular.localize(texts.get(i)));
+        }
+
+        manager.registerLocalization("label", Text.of("close"));
+
+        Assert.assertEquals("open settings\nclose", fast.localize(Text.localizable("label")));
+        Assert.assertEquals("open settings\nclose", regular.localize(Text.localizable("label")));
+    }
+
+    @Test
+    public void batchLocalizationTest() {
+        LocaleManager localeManager = new MapLocaleManager();
+        EnUsLocale enUs = new EnUsLocale();
+        PtBrLocale ptBr = new PtBrLocale();
+
+        localeManager.registerLocale(enUs);
+        localeManager.registerLocale(ptBr);
+
+        enUs.getLocalizationManager().registerLocalization("greeting", Text.of("Hello ", Text.variable("name")));
+        enUs.getLocalizationManager().registerLocalization("bye", Text.of("Bye"));
+        ptBr.getLocalizationManager().registerLocalization("greeting", Text.of("Oi ", Text.variable("name")));
+
+        TextLocalizer localize = new FastTextLocalizer(localeManager, enUs);
+        TextComponent text = Text.of(Text.localizable("greeting"), ". ", Text.localizable("bye"));
+        Map<String, TextComponent> args = MapUtils.mapOf("name", Text.of("JwIUtils"));
+
+        Map<Locale, String> localized = localize.localizeAll(text, args, Collections3.listOf(ptBr, enUs, ptBr));
+
+        Assert.assertEquals(Collections3.listOf(ptBr, enUs), new ArrayList<>(localized.keySet()));
+        Assert.assertEquals("Oi JwIUtils. Bye", localized.get(ptBr));
+        Assert.assertEquals("Hello JwIUtils. Bye", localized.get(enUs));
+
+        List<String> recipients = Collections3.listOf("a", "b", "c");
+        Map<String, String> received = new HashMap<>();
+
+        localized = localize.localizeAll(text, args, recipients, r -> r.equals("b") ? enUs : ptBr, received::put);
+
+        Assert.assertEquals(2, localized.size());
+        Assert.assertEquals("Oi JwIUtils. Bye", received.get("a"));
+        Assert.assertEquals("Hello JwIUtils. Bye", received.get("b"));
+        Assert.assertSame(received.get("a"), received.get("c"));
+    }
+
+    @Test
+    public void statisticsTest() {
+        LocaleManager localeManager = new MapLocaleManager();
+        EnUsLocale enUs = new EnUsLocale();
+        PtBrLocale ptBr = new PtBrLocale();
+
+        localeManager.registerLocale(enUs);
+        localeManager.registerLocale(ptBr);
+
+        enUs.getLocalizationManager().registerLocalization("greeting", Text.of("Hello ", Text.variable("name")));
+        ptBr.getLocalizationManager().registerLocalization("bye", Text.of("Tchau"));
+
+        TextComponent text = Text.of(Text.localizable("greeting"), Text.localizable("bye"), Text.localizable("missing"));
+
+        for (AbstractTextLocalizer localizer : Collections3.listOf(
+                new FastTextLocalizer(localeManager, enUs), new DefaultTextLocalizer(localeManager, enUs))) {
+            localizer.localize(text, ptBr);
+
+            LocalizerStatistics statistics = new LocalizerStatistics();
+            localizer.setStatistics(statistics);
+
+            localizer.localize(text, ptBr);
+            localizer.localize(text, ptBr);
+
+            LocalizerStatistics.Snapshot snapshot = statistics.snapshot();
+            Map<String, LocalizerStatistics.KeyStatistics> keys = new HashMap<>();
+
+            for (LocalizerStatistics.KeyStatistics key : snapshot.getKeys()) {
+                Assert.assertSame(ptBr, key.getLocale());
+                Assert.assertEquals(2, key.getTotal());
+                keys.put(key.getKey(), key);
+            }
+
+            Assert.assertEquals(3, keys.size());
+            Assert.assertEquals(2, keys.get("greeting").getCount(LocalizerStatistics.Resolution.CURRENT_FALLBACK));
+            Assert.assertEquals(2, keys.get("bye").getHits());
+            Assert.assertEquals(2, keys.get("missing").getMisses());
+            Assert.assertEquals(MapUtils.mapOf("name", 2L), snapshot.getUnresolvedVariables());
+            Assert.assertEquals(2, snapshot.getLatency().getCount());
+            Assert.assertTrue(snapshot.getLatency().getPercentile(1).toNanos() >= snapshot.getLatency().getMean().toNanos());
+
+            localizer.setStatistics(null);
+            localizer.localize(text, ptBr);
+
+            Assert.assertEquals(2, statistics.snapshot().getLatency().getCount());
+        }
+    }
+
+    @Test
+    public void hiddenClassGeneratorTest() {
+        LocaleManager localeManager = new MapLocaleManager();
+        EnUsLocale enUs = new EnUsLocale();
+
+        localeManager.registerLocale(enUs);
+
+        LocalizationManager manager = enUs.getLocalizationManager();
+        manager.registerLocalization("messages.kill", Text.of(Text.variable("killer"), " killed ", Text.variable("amount"),
+                " ", Text.variable("what"), " ", Text.variable("time"), " ", Text.variable("flag"), Text.variable("c")));
+        manager.registerLocalization("messages.many", Text.of(Text.variable("a"), Text.variable("b"), Text.variable("c"),
+                Text.variable("d"), Text.variable("e"), Text.variable("f"), Text.variable("g"), Text.variable("h"),
+                Text.variable("i"), Text.variable("j"), Text.variable("k")));
+        manager.registerLocalization("messages.hello", Text.of("Hello"));
+
+        TextLocalizer localize = new FastTextLocalizer(localeManager, enUs);
+
+        Messages proxy = DynamicGenerator.generate(Messages.class);
+        Messages generated = DynamicGenerator.generate(Messages.class, DynamicGenerator.Backend.HIDDEN_CLASS);
+
+        Assert.assertFalse(Proxy.isProxyClass(generated.getClass()));
+        Assert.assertTrue(generated.getClass().isHidden());
+
+        Assert.assertEquals(proxy.kill(Text.of("A"), 5, 1.5, 10L, true, 'x'),
+                generated.kill(Text.of("A"), 5, 1.5, 10L, true, 'x'));
+        Assert.assertEquals("A killed 5 1.5 10 truex",
+                localize.localize(generated.kill(Text.of("A"), 5, 1.5, 10L, true, 'x')));
+
+        // Args built by generated code are immutable maps and are not copied by ArgsAppliedText
+        Map<String, TextComponent> args = ((ArgsAppliedText) generated.kill(Text.of("A"), 5, 1.5, 10L, true, 'x')).getArgs();
+
+        Assert.assertFalse(args instanceof HashMap);
+        Assert.assertSame(args, Map.copyOf(args));
+        Assert.assertEquals(proxy.many(1, "2", 3, 4, 5, 6, 7, 8, 9, 10, 11).resolve(localize),
+                generated.many(1, "2", 3, 4, 5, 6, 7, 8, 9, 10, 11).resolve(localize));
+        Assert.assertEquals("1234567891011", generated.many(1, "2", 3, 4, 5, 6, 7, 8, 9, 10, 11).resolve(localize));
+        Assert.assertEquals(proxy.hello().resolve(localize), generated.hello().resolve(localize));
+        Assert.assertSame(generated.hello(), generated.hello());
+
+        Assert.assertTrue(DynamicGenerator.generate(Stub.class, DynamicGenerator.Backend.HIDDEN_CLASS).getClass().isHidden());
+        Assert.assertTrue(Proxy.isProxyClass(DynamicGenerator.generate(Partial.class, DynamicGenerator.Backend.HIDDEN_CLASS).getClass()));
+    }
+
+    public interface Messages {
+        @Section({"messages", "kill"})
+        TextComponent kill(@Named("killer") TextComponent killer,
+                           @Named("amount") int amount,
+                           @Named("what") double what,
+                           @Named("time") long time,
+                           @Named("flag") boolean flag,
+                           @Named("c") char c);
+
+        @Section({"messages", "many"})
+        Resolve.Str many(@Named("a") Object a, @Named("b") String b, @Named("c") int c, @Named("d") int d,
+                         @Named("e") int e, @Named("f") int f, @Named("g") int g, @Named("h") int h,
+                         @Named("i") int i, @Named("j") int j, @Named("k") int k);
+
+        @Section({"messages", "hello"})
+        Resolve.Components hello();
+    }
+
+    public interface Partial {
+        @Section({"messages", "hello"})
+        TextComponent hello();
+
+        String other();
+    }
+
     public interface Stub {
         @Section({"message", "notify"})
         TextComponent getNotify(@Named("user") String user);
@@ -0,0 +1,245 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils;
+
+import com.github.jonathanxd.iutils.localization.BundleLocalizationManager;
+import com.github.jonathanxd.iutils.localization.Locale;
+import com.github.jonathanxd.iutils.localization.LocaleBundle;
+import com.github.jonathanxd.iutils.localization.LocaleBundleWatcher;
+import com.github.jonathanxd.iutils.localization.LocaleLoadResult;
+import com.github.jonathanxd.iutils.localization.LocaleLoaders;
+import com.github.jonathanxd.iutils.localization.LocaleManager;
+import com.github.jonathanxd.iutils.localization.LocalizationManager;
+import com.github.jonathanxd.iutils.localization.MapLocaleManager;
+import com.github.jonathanxd.iutils.map.MapUtils;
+import com.github.jonathanxd.iutils.text.Colors;
+import com.github.jonathanxd.iutils.text.Style;
+import com.github.jonathanxd.iutils.text.Text;
+import com.github.jonathanxd.iutils.text.TextComponent;
+import com.github.jonathanxd.iutils.text.localizer.FastTextLocalizer;
+import com.github.jonathanxd.iutils.text.localizer.TextLocalizer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class LocaleBundleTest {
+
+    @Test
+    public void bundleTest() throws Exception {
+        Map<String, List<TextComponent>> localizations;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                this.getClass().getClassLoader().getResourceAsStream("text_test/en_us.lang"), StandardCharsets.UTF_8))) {
+            localizations = LocaleLoaders.langLoader().create(reader);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LocaleBundle.write(localizations, out);
+
+        LocaleBundle bundle = LocaleBundle.read(new ByteArrayInputStream(out.toByteArray()));
+
+        Assert.assertEquals(localizations.size(), bundle.size());
+
+        for (Map.Entry<String, List<TextComponent>> entry : localizations.entrySet()) {
+            Assert.assertTrue(bundle.containsKey(entry.getKey()));
+            Assert.assertEquals(entry.getValue(), bundle.getLocalizations(entry.getKey()));
+        }
+
+        Assert.assertFalse(bundle.containsKey("missing"));
+        Assert.assertEquals(Collections.emptyList(), bundle.getLocalizations("missing"));
+
+        Path file = Files.createTempFile("en_us", ".langb");
+
+        try {
+            Files.write(file, out.toByteArray());
+
+            BundleLocale locale = new BundleLocale();
+            LocaleLoaders.bundleLoader().loadFromUrl(locale, file.toUri().toURL());
+
+            LocaleManager localeManager = new MapLocaleManager();
+            localeManager.registerLocale(locale);
+
+            TextLocalizer localizer = new FastTextLocalizer(localeManager, locale);
+
+            TextComponent kill = Text.localizable("message").apply(MapUtils.mapOf(
+                    "killer", Text.of("ProPlayer"),
+                    "killed", Text.of("Noob")
+            ));
+
+            Assert.assertEquals("Player ProPlayer killed Noob.", localizer.localize(kill));
+
+            locale.getLocalizationManager().registerLocalization("message", Text.of("Extra"));
+
+            Assert.assertEquals("Player ProPlayer killed Noob.\nExtra", localizer.localize(kill));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void componentsTest() throws Exception {
+        TextComponent component = Text.of(
+                Colors.RED,
+                Style.getBold(),
+                Text.localizable("en_us", "kill").capitalize(),
+                Text.variable("amount").decapitalize(),
+                Text.localizable("players").apply(MapUtils.mapOf("a", Text.of("b")))
+        );
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LocaleBundle.write(MapUtils.mapOf("x", Collections.singletonList(component)), out);
+
+        LocaleBundle bundle = LocaleBundle.read(new ByteArrayInputStream(out.toByteArray()));
+
+        Assert.assertEquals("x", bundle.getKey(0));
+        Assert.assertEquals(Collections.singletonList(component), bundle.getLocalizations("x"));
+    }
+
+    @Test
+    public void watcherTest() throws Exception {
+        Path directory = Files.createTempDirectory("locales");
+        Path file = directory.resolve("messages_en_us.lang");
+        BlockingQueue<LocaleLoadResult> results = new LinkedBlockingQueue<>();
+
+        Files.write(file, "greeting=Hello\nbye=Bye".getBytes(StandardCharsets.UTF_8));
+
+        try (LocaleBundleWatcher watcher = new LocaleBundleWatcher(directory, "messages", LocaleLoaders.langLoader(),
+                Runnable::run, results::add)) {
+            LocaleManager localeManager = new MapLocaleManager();
+            Locale locale = new BundleLocale();
+            localeManager.registerLocale(locale);
+
+            TextLocalizer localizer = new FastTextLocalizer(localeManager, locale);
+
+            Assert.assertTrue(watcher.watch(locale).isSuccess());
+            Assert.assertEquals("Hello", localizer.localize(Text.localizable("greeting")));
+
+            Files.write(file, "greeting=Hi".getBytes(StandardCharsets.UTF_8));
+            Assert.assertTrue(watcher.reload(locale).isSuccess());
+            Assert.assertEquals("Hi", localizer.localize(Text.localizable("greeting")));
+            Assert.assertEquals("bye", localizer.localize(Text.localizable("bye")));
+
+            Files.write(file, "greeting=Hey".getBytes(StandardCharsets.UTF_8));
+
+            // Events of previous writes may be delivered first
+            while (!localizer.localize(Text.localizable("greeting")).equals("Hey")) {
+                LocaleLoadResult result = results.poll(30, TimeUnit.SECONDS);
+
+                Assert.assertNotNull(result);
+                Assert.assertTrue(result.isSuccess());
+            }
+
+            Files.delete(file);
+            Assert.assertFalse(watcher.reload(locale).isSuccess());
+            Assert.assertEquals("Hey", localizer.localize(Text.localizable("greeting")));
+            Assert.assertTrue(watcher.unwatch(locale));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void watcherRejectedReloadTest() throws Exception {
+        Path directory = Files.createTempDirectory("locales");
+        Path file = directory.resolve("messages_en_us.lang");
+        BlockingQueue<LocaleLoadResult> results = new LinkedBlockingQueue<>();
+        AtomicBoolean reject = new AtomicBoolean(true);
+        Executor executor = command -> {
+            if (reject.get())
+                throw new RejectedExecutionException();
+
+            command.run();
+        };
+
+        Files.write(file, "greeting=Hello".getBytes(StandardCharsets.UTF_8));
+
+        try (LocaleBundleWatcher watcher = new LocaleBundleWatcher(directory, "messages", LocaleLoaders.langLoader(),
+                executor, results::add)) {
+            LocaleManager localeManager = new MapLocaleManager();
+            Locale locale = new BundleLocale();
+            localeManager.registerLocale(locale);
+
+            TextLocalizer localizer = new FastTextLocalizer(localeManager, locale);
+
+            Assert.assertTrue(watcher.watch(locale).isSuccess());
+
+            Files.write(file, "greeting=Hi".getBytes(StandardCharsets.UTF_8));
+
+            LocaleLoadResult rejected = results.poll(30, TimeUnit.SECONDS);
+
+            Assert.assertNotNull(rejected);
+            Assert.assertTrue(rejected.getException() instanceof RejectedExecutionException);
+            Assert.assertEquals("Hello", localizer.localize(Text.localizable("greeting")));
+
+            reject.set(false);
+            Files.write(file, "greeting=Hey".getBytes(StandardCharsets.UTF_8));
+
+            // Rejected events of previous writes may be delivered first
+            while (!localizer.localize(Text.localizable("greeting")).equals("Hey")) {
+                LocaleLoadResult result = results.poll(30, TimeUnit.SECONDS);
+
+                Assert.assertNotNull(result);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    static class BundleLocale implements Locale {
+        private final LocalizationManager localizationManager = new BundleLocalizationManager();
+
+        @Override
+        public String getName() {
+            return "en_us";
+        }
+
+        @Override
+        public LocalizationManager getLocalizationManager() {
+            return this.localizationManager;
+        }
+    }
+}
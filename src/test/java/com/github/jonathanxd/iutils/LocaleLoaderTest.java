@@ -0,0 +1,175 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils;
+
+import com.github.jonathanxd.iutils.collection.Collections3;
+import com.github.jonathanxd.iutils.localization.Locale;
+import com.github.jonathanxd.iutils.localization.LocaleLoadResult;
+import com.github.jonathanxd.iutils.localization.LocaleLoader;
+import com.github.jonathanxd.iutils.localization.LocaleLoaders;
+import com.github.jonathanxd.iutils.localization.LocaleManager;
+import com.github.jonathanxd.iutils.localization.LocalizationManager;
+import com.github.jonathanxd.iutils.localization.MapLocaleManager;
+import com.github.jonathanxd.iutils.localization.MapLocalizationManager;
+import com.github.jonathanxd.iutils.text.Text;
+import com.github.jonathanxd.iutils.text.TextComponent;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LocaleLoaderTest {
+
+    @Test
+    public void loadAllTest() {
+        LocaleManager localeManager = new MapLocaleManager();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            List<LocaleLoadResult> results = LocaleLoaders.langLoader().loadAllFromResource(
+                    Collections3.listOf(new SimpleLocale("en_us"), new SimpleLocale("pt_br"), new SimpleLocale("missing")),
+                    localeManager,
+                    Paths.get("text_test"),
+                    null,
+                    this.getClass().getClassLoader(),
+                    executor);
+
+            Assert.assertEquals(3, results.size());
+
+            for (LocaleLoadResult result : results) {
+                Assert.assertEquals(!result.getLocale().getName().equals("missing"), result.isSuccess());
+                Assert.assertTrue(result.getTimeNanos() >= 0);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(2, localeManager.getLocales().size());
+        Assert.assertNull(localeManager.getLocale("missing"));
+        Assert.assertEquals(Text.of("kill"), localeManager.getRequiredLocale("en_us").getLocalizationManager().getLocalization("kill"));
+        Assert.assertNotNull(localeManager.getRequiredLocale("pt_br").getLocalizationManager().getLocalization("kill"));
+    }
+
+    @Test
+    public void loadAllStagedTest() {
+        LocaleManager localeManager = new MapLocaleManager();
+        SimpleLocale enUs = new SimpleLocale("en_us");
+        SimpleLocale ptBr = new SimpleLocale("pt_br");
+        SimpleLocale failing = new SimpleLocale("en_us");
+        AtomicInteger submitted = new AtomicInteger();
+
+        // The third locale submitted fails after registering its localizations
+        LocaleLoader loader = new LocaleLoader() {
+            @Override
+            public void load(@NotNull Locale locale, @NotNull BufferedReader reader) throws Exception {
+                LocaleLoaders.langLoader().load(locale, reader);
+
+                if (submitted.get() == 3)
+                    throw new IllegalStateException("Failing locale.");
+            }
+
+            @Override
+            public Map<String, List<TextComponent>> create(String string) throws Exception {
+                return LocaleLoaders.langLoader().create(string);
+            }
+
+            @Override
+            public String extension() {
+                return "lang";
+            }
+        };
+
+        List<LocaleLoadResult> results = loader.loadAllFromResource(Collections3.listOf(enUs, enUs, ptBr),
+                localeManager, Paths.get("text_test"), null, this.getClass().getClassLoader(), Runnable::run);
+
+        Assert.assertEquals(2, results.size());
+        Assert.assertTrue(results.stream().allMatch(LocaleLoadResult::isSuccess));
+        Assert.assertEquals(1, enUs.getLocalizationManager().getLocalizations("kill").size());
+        Assert.assertSame(ptBr, localeManager.getLocale("pt_br"));
+
+        results = loader.loadAllFromResource(Collections3.listOf(ptBr, enUs, failing),
+                new MapLocaleManager(), Paths.get("text_test"), null, this.getClass().getClassLoader(), command -> {
+                    if (submitted.incrementAndGet() == 2)
+                        throw new RejectedExecutionException();
+
+                    command.run();
+                });
+
+        Assert.assertEquals(3, results.size());
+        Assert.assertTrue(results.get(0).getException() instanceof RejectedExecutionException);
+        Assert.assertSame(enUs, results.get(0).getLocale());
+        Assert.assertTrue(results.get(1).isSuccess());
+        Assert.assertSame(failing, results.get(2).getLocale());
+        Assert.assertFalse(results.get(2).isSuccess());
+        Assert.assertEquals(2, ptBr.getLocalizationManager().getLocalizations("kill").size());
+        Assert.assertEquals(1, enUs.getLocalizationManager().getLocalizations("kill").size());
+        Assert.assertNull(failing.getLocalizationManager().getLocalization("kill"));
+    }
+
+    @Test
+    public void langDuplicatedKeyTest() throws Exception {
+        String lang = "a=old\nb=first\na=new";
+        SimpleLocale locale = new SimpleLocale("en_us");
+
+        LocaleLoaders.langLoader().load(locale, new BufferedReader(new StringReader(lang)));
+
+        Assert.assertEquals(Collections3.listOf(Text.of("new")), locale.getLocalizationManager().getLocalizations("a"));
+        Assert.assertEquals(Collections3.listOf(Text.of("first")), locale.getLocalizationManager().getLocalizations("b"));
+        Assert.assertEquals(LocaleLoaders.langLoader().create(new BufferedReader(new StringReader(lang))),
+                LocaleLoaders.langLoader().create(lang));
+    }
+
+    static class SimpleLocale implements Locale {
+        private final String name;
+        private final LocalizationManager localizationManager = new MapLocalizationManager();
+
+        SimpleLocale(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public LocalizationManager getLocalizationManager() {
+            return this.localizationManager;
+        }
+    }
+}
@@ -28,11 +28,16 @@
 package com.github.jonathanxd.iutils;
 
 import com.github.jonathanxd.iutils.collection.Collections3;
+import com.github.jonathanxd.iutils.list.ListSet;
+import com.github.jonathanxd.iutils.list.UniqueList;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.ListIterator;
 
 public class PredicateListTest {
 
@@ -50,4 +55,94 @@ public class PredicateListTest {
 
         Assert.assertEquals(Collections3.listOf("A", "B", "D"), acceptUpper);
     }
+
+    @Test
+    public void uniqueListTest() {
+        List<String> backing = new ArrayList<>(Arrays.asList("A", "B"));
+        UniqueList<String> unique = new UniqueList<>(backing);
+
+        Assert.assertFalse(unique.add("A"));
+        Assert.assertTrue(unique.addAll(Arrays.asList("A", "C", "D")));
+        Assert.assertEquals(Arrays.asList("A", "B", "C", "D"), backing);
+
+        unique.remove("C");
+        Assert.assertFalse(unique.contains("C"));
+        Assert.assertTrue(unique.add("C"));
+
+        ListIterator<String> iterator = unique.listIterator();
+        iterator.next();
+        iterator.set("E");
+        Assert.assertTrue(unique.contains("E"));
+        Assert.assertFalse(unique.contains("A"));
+
+        unique.subList(0, 2).clear();
+        Assert.assertEquals(Arrays.asList("D", "C"), backing);
+        Assert.assertFalse(unique.contains("E"));
+
+        // Changes made directly to the wrapped list are seen
+        backing.add("F");
+        Assert.assertTrue(unique.contains("F"));
+        Assert.assertFalse(unique.add("F"));
+    }
+
+    @Test
+    public void uniqueSubListTest() {
+        List<String> backing = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        UniqueList<String> unique = new UniqueList<>(backing);
+        List<String> sub = unique.subList(0, 2);
+
+        Assert.assertTrue(sub.contains("a"));
+
+        unique.set(0, "x");
+        Assert.assertFalse(sub.contains("a"));
+        Assert.assertTrue(sub.contains("x"));
+
+        Assert.assertTrue(sub.add("a"));
+        Assert.assertEquals(Arrays.asList("x", "b", "a", "c"), backing);
+        Assert.assertTrue(unique.contains("a"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void listSetTest() {
+        ListSet<Integer> set = new ListSet<>();
+        set.addAll(Arrays.asList(1, 2, 3));
+        set.addAll(Arrays.asList(2, 3));
+
+        Assert.assertEquals(Arrays.asList(1, 2, 3), set);
+        Assert.assertFalse(set.add(2));
+
+        set.removeIf(i -> i == 2);
+        Assert.assertFalse(set.contains(2));
+        Assert.assertTrue(set.add(2));
+
+        set.replaceAll(i -> i * 10);
+        Assert.assertTrue(set.contains(30));
+        Assert.assertFalse(set.contains(3));
+
+        @SuppressWarnings("unchecked")
+        ListSet<Integer> clone = (ListSet<Integer>) set.clone();
+        clone.clear();
+        Assert.assertTrue(clone.add(10));
+        Assert.assertTrue(set.contains(10));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void listSetSubListTest() {
+        ListSet<String> set = new ListSet<>();
+        set.addAll(Arrays.asList("a", "b", "c"));
+
+        Assert.assertTrue(set.contains("a"));
+
+        set.subList(0, 2).set(0, "z");
+        Assert.assertFalse(set.contains("a"));
+        Assert.assertTrue(set.contains("z"));
+        Assert.assertTrue(set.add("a"));
+
+        set.subList(1, 3).replaceAll(s -> s + s);
+        Assert.assertEquals(Arrays.asList("z", "bb", "cc", "a"), set);
+        Assert.assertTrue(set.contains("bb"));
+        Assert.assertFalse(set.contains("b"));
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ *      JwIUtils - Java utilities library <https://github.com/JonathanxD/JwIUtils>
+ *
+ *         The MIT License (MIT)
+ *
+ *      Copyright (c) 2021 TheRealBuggy/JonathanxD (https://github.com/JonathanxD/) <jonathan.scripter@programmer.net>
+ *      Copyright (c) contributors
+ *
+ *
+ *      Permission is hereby granted, free of charge, to any person obtaining a copy
+ *      of this software and associated documentation files (the "Software"), to deal
+ *      in the Software without restriction, including without limitation the rights
+ *      to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *      copies of the Software, and to permit persons to whom the Software is
+ *      furnished to do so, subject to the following conditions:
+ *
+ *      The above copyright notice and this permission notice shall be included in
+ *      all copies or substantial portions of the Software.
+ *
+ *      THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *      IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *      FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *      AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *      LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *      OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *      THE SOFTWARE.
+ */
+package com.github.jonathanxd.iutils;
+
+import com.github.jonathanxd.iutils.list.DoubleStaticList;
+import com.github.jonathanxd.iutils.list.IntStaticList;
+import com.github.jonathanxd.iutils.list.StaticList;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+@SuppressWarnings("deprecation")
+public class StaticListTest {
+
+    @Test
+    public void staticListTest() {
+        StaticList<String> list = StaticList.createStaticListOf(String.class, 130);
+
+        for (int i = 0; i < 130; i++) {
+            Assert.assertTrue(list.add("e" + i));
+        }
+
+        Assert.assertTrue(list.isFull());
+        Assert.assertFalse(list.add("x"));
+        Assert.assertTrue(list.contains("e129"));
+
+        Assert.assertTrue(list.remove("e70"));
+        Assert.assertTrue(list.remove(100));
+        Assert.assertFalse(list.contains("e70"));
+        Assert.assertEquals(2, list.emptySlots());
+        Assert.assertEquals(100, list.nextEmptySlot());
+
+        Assert.assertTrue(list.add("x"));
+        Assert.assertEquals(70, list.nextEmptySlot());
+        Assert.assertEquals("x", list.get(100).getValue());
+        Assert.assertTrue(list.contains("x"));
+    }
+
+    @Test
+    public void intStaticListTest() {
+        IntStaticList list = IntStaticList.createStaticListOf(70);
+
+        for (int i = 0; i < 70; i++) {
+            Assert.assertTrue(list.add(i * 2));
+        }
+
+        Assert.assertTrue(list.isFull());
+        Assert.assertFalse(list.add(1));
+        Assert.assertTrue(list.removeElement(130));
+        Assert.assertTrue(list.remove(3));
+        Assert.assertEquals(68, list.count());
+        Assert.assertEquals(3, list.nextEmptySlot());
+        Assert.assertFalse(list.contains(6));
+        Assert.assertEquals(2, list.indexOf(4));
+
+        Assert.assertTrue(list.add(1));
+        Assert.assertEquals(1, list.get(3));
+        Assert.assertEquals(65, list.nextEmptySlot());
+
+        try {
+            list.get(65);
+            Assert.fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ignored) {
+        }
+
+        Assert.assertEquals(list.count(), list.stream().count());
+        list.clear();
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertEquals(0, list.toArray().length);
+    }
+
+    @Test
+    public void doubleStaticListTest() {
+        DoubleStaticList list = DoubleStaticList.createStaticListOf(3);
+
+        Assert.assertTrue(list.add(Double.NaN));
+        Assert.assertTrue(list.add(0.0));
+        Assert.assertTrue(list.contains(Double.NaN));
+        Assert.assertFalse(list.contains(-0.0));
+        Assert.assertFalse(list.set(2, 1.5));
+        Assert.assertTrue(list.set(2, 2.5));
+        Assert.assertArrayEquals(new double[]{Double.NaN, 0.0, 2.5}, list.toArray(), 0.0);
+    }
+}
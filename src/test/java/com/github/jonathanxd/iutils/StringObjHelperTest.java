@@ -34,7 +34,10 @@ import com.github.jonathanxd.iutils.string.StringObjHelper;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -73,4 +76,46 @@ public class StringObjHelperTest {
         Assert.assertEquals("b.c=d", objects.get("a.b"));
         Assert.assertNull(objects.get("  "));
     }
+
+    @Test
+    public void streamingPropertyHelper() throws Exception {
+        String properties = "a.b.c= ada\r\na=b\n\n  h.e=b\nl=\na.b=b.c=d\nmulti=first\\\nsecond\nlast=";
+        Map<String, String> objects = new HashMap<>();
+
+        StringObjHelper.parsePropertyMap(new BufferedReader(new StringReader(properties)), objects::put);
+
+        Assert.assertEquals(" ada", objects.get("a.b.c"));
+        Assert.assertEquals("b", objects.get("a"));
+        Assert.assertEquals("b", objects.get("  h.e"));
+        Assert.assertEquals("", objects.get("l"));
+        Assert.assertEquals("b.c=d", objects.get("a.b"));
+        Assert.assertEquals("first\nsecond", objects.get("multi"));
+        Assert.assertFalse(objects.containsKey("last"));
+        Assert.assertEquals(StringObjHelper.parsePropertyMap(properties.replace("\r", "").replace("\n\n", "\n")), objects);
+    }
+
+    @Test
+    public void charSequenceAndReaderHelper() throws Exception {
+        String list = "[Hello, 'read, it', {p=[a, b]}, \\\\]";
+        String map = "{Hello=read, v=[This, may], y={h=a}}";
+        String properties = "a.b.c= ada\na=b\nl=\na.b=b.c=d";
+
+        Assert.assertEquals(Arrays.asList("Hello", "read, it", MapUtils.mapOf("p", Arrays.asList("a", "b")), "\\"),
+                StringObjHelper.parseStringList(new StringBuilder(list), true));
+        Assert.assertEquals(StringObjHelper.parseStringList(list), StringObjHelper.parseStringList(new StringReader(list), true));
+        Assert.assertEquals(StringObjHelper.parseStringMap(map), StringObjHelper.parseStringMap(new StringBuilder(map), true));
+        Assert.assertEquals(StringObjHelper.parseStringMap(map), StringObjHelper.parseStringMap(new StringReader(map), true));
+        Assert.assertEquals(StringObjHelper.parsePropertyMap(properties), StringObjHelper.parsePropertyMap(new StringBuilder(properties)));
+        Assert.assertEquals(StringObjHelper.parsePropertyMap(properties), StringObjHelper.parsePropertyMap(new StringReader(properties)));
+
+        Assert.assertEquals(Arrays.asList("a", "b"), StringObjHelper.parseStringList(new StringReader("[a, b] rest"), true));
+
+        try {
+            StringObjHelper.parseStringList(new StringBuilder("[a, b"), true);
+            Assert.fail("Expected ListParseException");
+        } catch (StringObjHelper.ListParseException ignored) {
+        }
+
+        Assert.assertEquals(Arrays.asList("a", "b"), StringObjHelper.parseStringList(new StringBuilder("a, b"), false));
+    }
 }
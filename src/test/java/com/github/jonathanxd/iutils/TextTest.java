@@ -34,13 +34,19 @@ import com.github.jonathanxd.iutils.localization.LocalizationManager;
 import com.github.jonathanxd.iutils.localization.MapLocaleManager;
 import com.github.jonathanxd.iutils.localization.MapLocalizationManager;
 import com.github.jonathanxd.iutils.map.MapUtils;
+import com.github.jonathanxd.iutils.text.ArgsAppliedText;
 import com.github.jonathanxd.iutils.text.CapitalizeComponent;
+import com.github.jonathanxd.iutils.text.Color;
 import com.github.jonathanxd.iutils.text.Colors;
+import com.github.jonathanxd.iutils.text.StringComponent;
 import com.github.jonathanxd.iutils.text.Styles;
 import com.github.jonathanxd.iutils.text.Text;
 import com.github.jonathanxd.iutils.text.TextComponent;
+import com.github.jonathanxd.iutils.text.TextInterner;
+import com.github.jonathanxd.iutils.text.TextParseCache;
 import com.github.jonathanxd.iutils.text.TextUtil;
 import com.github.jonathanxd.iutils.text.localizer.DefaultTextLocalizer;
+import com.github.jonathanxd.iutils.text.localizer.LocalizerStatistics;
 import com.github.jonathanxd.iutils.text.localizer.TextLocalizer;
 import com.github.jonathanxd.iutils.text.dynamic.DynamicGenerator;
 import com.github.jonathanxd.iutils.text.dynamic.Section;
@@ -48,7 +54,14 @@ import com.github.jonathanxd.iutils.text.dynamic.Section;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class TextTest {
 
@@ -132,6 +145,134 @@ public class TextTest {
         );
     }
 
+    @Test
+    public void parseCache() {
+        String txt = "Hello $player, &c&n#message.welcome$a#b";
+        TextParseCache cache = new TextParseCache(2);
+
+        TextComponent parse = cache.parse(txt);
+
+        Assert.assertEquals(TextUtil.parse(txt), parse);
+        Assert.assertEquals(TextUtil.parse(new StringBuilder(txt)), parse);
+        Assert.assertSame(parse, cache.parse(txt));
+
+        cache.parse("a");
+        cache.parse(txt);
+        cache.parse("b");
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertSame(parse, cache.parse(txt));
+    }
+
+    @Test
+    public void interner() {
+        TextInterner interner = new TextInterner();
+
+        TextComponent first = TextUtil.parse("Hello $player, #message.welcome", interner);
+        TextComponent second = TextUtil.parse("Bye $player, #message.welcome", interner);
+        Text third = Text.compress(Text.of("Hello ", Text.variable("player"), ", ", Text.localizable("message.welcome")), interner);
+
+        Assert.assertEquals(TextUtil.parse("Hello $player, #message.welcome"), first);
+        Assert.assertSame(first, third);
+        Assert.assertSame(((Text) first).getComponents().get(1), ((Text) second).getComponents().get(1));
+        Assert.assertSame(((Text) first).getComponents().get(3), ((Text) second).getComponents().get(3));
+        Assert.assertTrue(interner.getDuplicateCount() > 0);
+        Assert.assertTrue(interner.getEstimatedSavedBytes() > 0);
+
+        interner.clear();
+
+        Assert.assertEquals(0, interner.size());
+        Assert.assertEquals(0, interner.getDuplicateCount());
+    }
+
+    @Test
+    public void compositeEquality() {
+        TextComponent first = Text.of(Text.localizable("a").capitalize(), Text.variable("b").decapitalize())
+                .apply(MapUtils.mapOf("b", Text.of("c")));
+        TextComponent second = Text.of(Text.localizable("a").capitalize(), Text.variable("b").decapitalize())
+                .apply(MapUtils.mapOf("b", Text.of("c")));
+        TextComponent third = Text.of(Text.localizable("a").capitalize(), Text.variable("b").decapitalize())
+                .apply(MapUtils.mapOf("b", Text.of("d")));
+
+        Assert.assertEquals(first, first);
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(first.hashCode(), second.hashCode());
+        Assert.assertEquals(first.hashCode(), first.hashCode());
+        Assert.assertNotEquals(first, third);
+        Assert.assertNotEquals(third, first);
+    }
+
+    @Test
+    public void legacyLocalizerOverride() {
+        LocaleManager localeManager = new MapLocaleManager();
+        Locale locale = new LocaleLoaderTest.SimpleLocale("en_us");
+        localeManager.registerLocale(locale);
+        locale.getLocalizationManager().registerLocalization("x", Text.of(Colors.RED, "hello"));
+        locale.getLocalizationManager().registerLocalization("y", Text.of("constant"));
+
+        DefaultTextLocalizer localizer = new DefaultTextLocalizer(localeManager, locale) {
+            @Override
+            public void localize(TextComponent textComponent, Map<String, TextComponent> args, Locale locale, StringBuilder sb) {
+                if (textComponent instanceof Color)
+                    sb.append('&');
+                else if (textComponent instanceof StringComponent)
+                    sb.append(((StringComponent) textComponent).getText().toUpperCase());
+                else
+                    super.localize(textComponent, args, locale, sb);
+            }
+        };
+
+        TextComponent text = Text.of(Colors.RED, "a ", Text.localizable("x").decapitalize(), " ",
+                Text.localizable("y"), Text.variable("v"));
+
+        Assert.assertEquals("&A &HELLO CONSTANT&", localizer.localize(text, MapUtils.mapOf("v", Text.of(Colors.RED))));
+
+        // Nested components re-entering through the overridden function are not measured
+        LocalizerStatistics statistics = new LocalizerStatistics();
+        localizer.setStatistics(statistics);
+
+        for (int i = 0; i < 3; i++) {
+            localizer.localize(text, MapUtils.mapOf("v", Text.of(Colors.RED)));
+        }
+
+        Assert.assertEquals(3, statistics.snapshot().getLatency().getCount());
+    }
+
+    @Test
+    public void compositeCopiesCollections() {
+        List<TextComponent> components = new ArrayList<>(Arrays.asList(Text.single("a"), Text.variable("b")));
+        Map<String, TextComponent> args = new HashMap<>();
+        args.put("b", Text.single("c"));
+
+        Text text = Text.ofUncompressed(components);
+        ArgsAppliedText applied = ArgsAppliedText.of(text, args);
+        TextComponent defaultApplied = text.apply(args);
+        int hash = applied.hashCode();
+
+        components.add(Text.single("d"));
+        args.put("b", Text.single("e"));
+
+        Assert.assertEquals(2, text.getComponents().size());
+        Assert.assertEquals(hash, applied.hashCode());
+        Assert.assertEquals(applied, ArgsAppliedText.of(Text.ofUncompressed(Arrays.asList(Text.single("a"), Text.variable("b"))),
+                MapUtils.mapOf("b", Text.single("c"))));
+        Assert.assertEquals(applied, defaultApplied);
+        Assert.assertNotEquals(applied, ArgsAppliedText.of(text, args));
+
+        Map<String, TextComponent> immutable = Map.of("b", Text.single("c"));
+        ArgsAppliedText reapplied = (ArgsAppliedText) applied.apply(MapUtils.mapOf("f", Text.single("g")));
+
+        Assert.assertSame(immutable, ArgsAppliedText.of(text, immutable).getArgs());
+        Assert.assertEquals(Map.of("b", Text.single("c"), "f", Text.single("g")), reapplied.getArgs());
+        Assert.assertSame(applied.getArgs(), ((ArgsAppliedText) applied.mapLocalized(l -> l)).getArgs());
+
+        try {
+            reapplied.getArgs().clear();
+            Assert.fail("Args must be unmodifiable.");
+        } catch (UnsupportedOperationException ignored) {
+        }
+    }
+
     @Test
     public void textTest() {
         LocaleManager localeManager = new MapLocaleManager();
@@ -236,6 +377,52 @@ public class TextTest {
         Assert.assertEquals(Text.of("AB", variable, "C"), of);
     }
 
+    @Test
+    public void colorAndStyleTableTest() {
+        try {
+            TextUtil.ColorAndStyleTable.TABLE2.put('z', Colors.RED);
+            Assert.fail("Table must be unmodifiable.");
+        } catch (UnsupportedOperationException ignored) {
+        }
+
+        try {
+            TextUtil.ColorAndStyleTable.TABLE.remove(Colors.RED);
+            Assert.fail("Table must be unmodifiable.");
+        } catch (UnsupportedOperationException ignored) {
+        }
+
+        Assert.assertNull(TextUtil.ColorAndStyleTable.get('z'));
+
+        for (char c = 0; c < 256; c++) {
+            Assert.assertSame(TextUtil.ColorAndStyleTable.TABLE2.get(c), TextUtil.ColorAndStyleTable.get(c));
+        }
+
+        Assert.assertEquals(Text.of(Colors.RED, "A"), TextUtil.parse("&cA"));
+    }
+
+    @Test
+    public void localizeToSinks() throws Exception {
+        LocaleManager localeManager = new MapLocaleManager();
+        EnUsLocale enUs = new EnUsLocale();
+
+        localeManager.registerLocale(enUs);
+        enUs.getLocalizationManager().registerLocalization("greeting", Text.of("hello \u00e9\ud83d\ude00 ", Text.variable("name")));
+
+        TextLocalizer localize = new DefaultTextLocalizer(localeManager, enUs);
+        TextComponent text = Text.localizable("greeting").capitalize();
+        Map<String, TextComponent> args = MapUtils.mapOf("name", Text.of("world").capitalize());
+
+        StringBuilder sb = new StringBuilder();
+        localize.localize(text, args, null, sb);
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        localize.localize(text, args, null, buffer);
+        buffer.flip();
+
+        Assert.assertEquals("Hello \u00e9\ud83d\ude00 World", sb.toString());
+        Assert.assertEquals("Hello \u00e9\ud83d\ude00 World", StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+
     public interface Stub {
         @Section({"message", "notify"})
         TextComponent getNotify(@Named("user") String user);
@@ -33,6 +33,7 @@ import com.github.jonathanxd.iutils.collection.view.ViewCollections;
 import com.github.jonathanxd.iutils.collection.view.ViewList;
 import com.github.jonathanxd.iutils.collection.view.ViewSet;
 import com.github.jonathanxd.iutils.collection.view.ViewUtils;
+import com.github.jonathanxd.iutils.collection.wrapper.WrapperCollections;
 import com.github.jonathanxd.iutils.function.consumer.IntObjConsumer;
 import com.github.jonathanxd.iutils.function.function.IntObjBiFunction;
 import com.github.jonathanxd.iutils.iterator.DelegatedListIterator;
@@ -44,12 +45,17 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class ViewCollectionTest {
 
@@ -295,6 +301,145 @@ public class ViewCollectionTest {
         Assert.assertEquals(lst.toString(), view.toString());
     }
 
+    @Test
+    public void randomAccessListTest() {
+        List<Integer> list = new ArrayList<>(Collections3.listOf(1, 2, 3, 4));
+
+        List<String> mapped = ViewCollections.listMapped(list, String::valueOf, Integer::valueOf, s -> list.add(Integer.valueOf(s)), s -> list.remove(Integer.valueOf(s)));
+        List<Integer> reversed = ViewCollections.reversedList(list);
+        List<Integer> readOnly = ViewCollections.readOnlyList(list);
+
+        Assert.assertTrue(mapped instanceof RandomAccess);
+        Assert.assertTrue(reversed instanceof RandomAccess);
+        Assert.assertTrue(readOnly instanceof RandomAccess);
+        Assert.assertFalse(ViewCollections.readOnlyList(new LinkedList<>(list)) instanceof RandomAccess);
+
+        Assert.assertEquals(4, mapped.size());
+        Assert.assertEquals("3", mapped.get(2));
+        Assert.assertEquals(Integer.valueOf(4), reversed.get(0));
+        Assert.assertEquals(Integer.valueOf(1), readOnly.get(0));
+        Assert.assertNull(mapped.get(4));
+
+        Assert.assertEquals("2", mapped.set(1, "20"));
+        Assert.assertEquals(Integer.valueOf(4), reversed.set(0, 40));
+        Assert.assertEquals(Collections3.listOf(1, 20, 3, 40), list);
+        Assert.assertEquals(Collections3.listOf(40, 3, 20, 1), new ArrayList<>(reversed));
+
+        try {
+            readOnly.set(0, 10);
+            Assert.fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ignored) {
+        }
+
+        mapped.add("5");
+        Assert.assertEquals(5, reversed.size());
+        Assert.assertEquals(Integer.valueOf(5), reversed.get(0));
+    }
+
+    @Test
+    public void spliteratorTest() {
+        List<Integer> list = new ArrayList<>();
+
+        for (int i = 0; i < 10000; i++) {
+            list.add(i);
+        }
+
+        List<String> mapped = ViewCollections.listMapped(new LinkedList<>(list), String::valueOf, Integer::valueOf, s -> false, s -> false);
+        Spliterator<String> spliterator = mapped.spliterator();
+
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Assert.assertEquals(10000, spliterator.getExactSizeIfKnown());
+        Assert.assertNotNull(spliterator.trySplit());
+
+        Assert.assertEquals(mapped.stream().collect(Collectors.toList()), mapped.parallelStream().collect(Collectors.toList()));
+        Assert.assertEquals(list.size(), ViewCollections.reversedList(list).parallelStream().distinct().count());
+        Assert.assertEquals(Integer.valueOf(9999), ViewCollections.reversedList(list).parallelStream().findFirst().orElse(null));
+        Assert.assertEquals(list, WrapperCollections.immutableList(list).parallelStream().collect(Collectors.toList()));
+
+        List<List<Integer>> lists = new ArrayList<>(Collections3.listOf(Collections3.listOf(1, 2), Collections3.listOf(), Collections3.listOf(3)));
+        List<Integer> flat = ViewCollections.Flat.flatList(lists, ArrayList::new);
+
+        Assert.assertFalse(flat.spliterator().hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(Collections3.listOf(1, 2, 3), flat.parallelStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void indexedFlatListTest() {
+        List<List<String>> lists = new ArrayList<>();
+
+        lists.add(new ArrayList<>(Collections3.listOf("A", "B")));
+        lists.add(new ArrayList<>());
+        lists.add(new ArrayList<>(Collections3.listOf("C")));
+
+        List<String> flat = ViewCollections.Flat.flatList(lists, s -> new ArrayList<>(Collections3.listOf(s)));
+
+        Assert.assertEquals(3, flat.size());
+        Assert.assertEquals("C", flat.get(2));
+        Assert.assertNull(flat.get(3));
+        Assert.assertEquals(Collections3.listOf("A", "B", "C"), new ArrayList<>(flat));
+
+        lists.get(0).remove("A");
+        lists.get(1).add("D");
+        lists.add(0, new ArrayList<>(Collections3.listOf("E")));
+
+        Assert.assertEquals(4, flat.size());
+        Assert.assertEquals("E", flat.get(0));
+        Assert.assertEquals("D", flat.get(2));
+        Assert.assertEquals("D", flat.set(2, "F"));
+        Assert.assertEquals(Collections3.listOf("F"), lists.get(2));
+
+        flat.add("G");
+        lists.remove(0);
+
+        Assert.assertEquals(Collections3.listOf("B", "F", "C", "G"), new ArrayList<>(flat));
+        Assert.assertEquals(4, flat.size());
+        Assert.assertEquals("G", flat.get(3));
+
+        for (int i = 0; i < 100; i++) {
+            lists.add(new ArrayList<>(Collections3.listOf("H" + i)));
+            lists.add(new ArrayList<>());
+        }
+
+        // Reads do not change state of the view
+        Assert.assertEquals(new ArrayList<>(flat), IntStream.range(0, flat.size()).parallel()
+                .mapToObj(flat::get)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void flatListIteratorTest() {
+        List<List<String>> lists = new ArrayList<>();
+
+        lists.add(new ArrayList<>(Collections3.listOf("A", "B")));
+        lists.add(new ArrayList<>());
+        lists.add(new ArrayList<>());
+        lists.add(new ArrayList<>(Collections3.listOf("C")));
+
+        List<String> flat = ViewCollections.Flat.flatList(lists, s -> new ArrayList<>(Collections3.listOf(s)));
+        ListIterator<String> iterator = flat.listIterator();
+        List<String> previous = new ArrayList<>();
+
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+
+        while (iterator.hasPrevious()) {
+            previous.add(iterator.previous());
+        }
+
+        Assert.assertEquals(Collections3.listOf("C", "B", "A"), previous);
+        Assert.assertEquals(0, iterator.nextIndex());
+
+        iterator = flat.listIterator(flat.size());
+
+        Assert.assertEquals("C", iterator.previous());
+        Assert.assertEquals("B", iterator.previous());
+        Assert.assertEquals("B", iterator.next());
+        Assert.assertEquals("C", iterator.next());
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals("C", iterator.previous());
+    }
+
     private boolean firstRemove(List<List<String>> list, Object o) {
         for (List<String> strings : list) {
             if (strings.remove(o))
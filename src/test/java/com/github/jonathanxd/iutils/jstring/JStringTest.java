@@ -27,14 +27,19 @@
  */
 package com.github.jonathanxd.iutils.jstring;
 
+import com.github.jonathanxd.iutils.exception.JStringApplyException;
 import com.github.jonathanxd.iutils.map.MapUtils;
+import com.github.jonathanxd.iutils.string.CompiledStringExpression;
 import com.github.jonathanxd.iutils.string.JString;
+import com.github.jonathanxd.iutils.string.JStringTemplate;
+import com.github.jonathanxd.iutils.string.JStringUtil;
 import com.github.jonathanxd.iutils.string.SimpleStringExpression;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -77,6 +82,50 @@ public class JStringTest {
         );
     }
 
+    @Test
+    public void template() {
+        JStringTemplate template = JStringUtil.compile("Name: ${person.name}, Age: ${person.age}, $x. ${a.b} $y");
+
+        Assert.assertEquals("Name: Maria, Age: 32, 1. ab Y",
+                template.evaluate(MapUtils.mapOf("person", new Person("Maria", 32), "x", 1, "a.b", "ab", "y", "Y")));
+        Assert.assertEquals("Name: Marcos, Age: 21, x. ab y",
+                template.evaluate(MapUtils.mapOf("person", new Person("Marcos", 21), "a.b", "ab")));
+
+        StringBuilder sb = new StringBuilder("> ");
+        JStringUtil.compile("Hello $name").evaluate(MapUtils.mapOf("name", "World"), sb);
+
+        Assert.assertEquals("> Hello World", sb.toString());
+    }
+
+    @Test(expected = JStringApplyException.class)
+    public void templateMissingVariable() {
+        JStringUtil.compile("${missing}").evaluate(MapUtils.mapOf("x", 1));
+    }
+
+    @Test
+    public void compiledExpression() {
+        List<Person> personList = new ArrayList<>();
+
+        personList.add(new Person("Maria", 32));
+        personList.add(new Person("Marcos", 21));
+
+        CompiledStringExpression expression = SimpleStringExpression.compile("personList.get(1).getName()");
+
+        Assert.assertEquals("Marcos", expression.evaluate(MapUtils.mapOf("personList", personList)));
+        Assert.assertEquals("Maria", expression.evaluate(MapUtils.mapOf("personList",
+                new ArrayList<>(Arrays.asList(personList.get(1), personList.get(0))))));
+
+        CompiledStringExpression field = SimpleStringExpression.compile("person.age");
+
+        Assert.assertEquals(32, field.evaluate(MapUtils.mapOf("person", personList.get(0))));
+        Assert.assertEquals(21, field.evaluate(MapUtils.mapOf("person", personList.get(1))));
+
+        CompiledStringExpression staticMethod = SimpleStringExpression.compile("Math.max(a,b)");
+
+        Assert.assertEquals(2, staticMethod.evaluate(MapUtils.mapOf("Math", Math.class, "a", 1, "b", 2)));
+        Assert.assertEquals(3L, staticMethod.evaluate(MapUtils.mapOf("Math", Math.class, "a", 3L, "b", 2L)));
+    }
+
     public static class Person {
         public final String name;
         public final int age;